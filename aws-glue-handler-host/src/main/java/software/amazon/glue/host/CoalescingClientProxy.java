@@ -0,0 +1,132 @@
+package software.amazon.glue.host;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * Proxy that merges identical Glue reads issued at the same time by concurrent handler
+ * invocations into one call and hands its response, or its exception, to every caller. Nothing
+ * is cached; a read is only shared while it is in flight.
+ *
+ * Merging only pays off when many requests share one proxy, as they do in a {@link HandlerHost}.
+ * A Lambda invocation gets a proxy of its own and gains nothing from it, which is why the
+ * handlers don't do this themselves. Reads are only merged within this proxy, and so within
+ * one set of credentials. A caller never joins a read that started before a call other than a
+ * read completed, so a handler always sees its own writes.
+ *
+ * With a {@link HedgingPolicy}, the one read that goes to Glue for a set of merged callers is
+ * hedged. The hedge is sent straight to Glue rather than merged into the slow read it races.
+ */
+public class CoalescingClientProxy extends AmazonWebServicesClientProxy {
+    private final ConcurrentHashMap<AwsRequest, Call> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong writeEpoch = new AtomicLong();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalescedCalls = new LongAdder();
+    private final HedgingPolicy hedgingPolicy;
+
+    public CoalescingClientProxy(final LoggerProxy logger, final Credentials credentials) {
+        this(logger, credentials, null);
+    }
+
+    /**
+     * @param hedgingPolicy policy hedging the reads sent to Glue, or null not to hedge
+     */
+    public CoalescingClientProxy(
+        final LoggerProxy logger,
+        final Credentials credentials,
+        final HedgingPolicy hedgingPolicy) {
+        super(
+            logger,
+            credentials,
+            DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+            WaitStrategy.scheduleForCallbackStrategy());
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResultT> requestFunction) {
+
+        if (!RegistrySnapshot.isRead(request)) {
+            try {
+                return super.injectCredentialsAndInvokeV2(request, requestFunction);
+            } finally {
+                writeEpoch.incrementAndGet();
+            }
+        }
+
+        final Call call = new Call(writeEpoch.get());
+        final Call leader = inFlight.compute(request,
+            (ignored, current) -> current != null && current.writeEpoch == call.writeEpoch ? current : call);
+        if (leader != call) {
+            coalescedCalls.increment();
+            return (ResultT) join(leader.response);
+        }
+
+        calls.increment();
+        try {
+            final ResultT response = hedgingPolicy == null
+                ? super.injectCredentialsAndInvokeV2(request, requestFunction)
+                : hedgingPolicy.read(
+                    request.getClass().getSimpleName(),
+                    () -> super.injectCredentialsAndInvokeV2(request, requestFunction));
+            call.response.complete(response);
+            return response;
+        } catch (final RuntimeException | Error e) {
+            call.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(request, call);
+        }
+    }
+
+    /**
+     * Reads that went to Glue.
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Reads answered by another caller's read.
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.sum();
+    }
+
+    private static AwsResponse join(final CompletableFuture<AwsResponse> response) {
+        try {
+            return response.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Call {
+        private final long writeEpoch;
+        private final CompletableFuture<AwsResponse> response = new CompletableFuture<>();
+
+        private Call(final long writeEpoch) {
+            this.writeEpoch = writeEpoch;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package software.amazon.glue.host;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Runs resource handlers on a fixed worker pool inside one JVM.
+ *
+ * The proxy handed to the handlers never waits in-process; a handler that has to wait for
+ * stabilization returns IN_PROGRESS and the host re-invokes it after the callback delay with the
+ * returned model and callback context, as CloudFormation would. Workers are therefore only busy
+ * while a handler is actually running.
+ *
+ * Invocations that are due are ordered so that stabilizations close to completion go first:
+ * re-invocations before new submissions, then most invocations so far, then shortest requested
+ * callback delay, then submission order.
+ */
+public class HandlerHost implements AutoCloseable {
+    private static final Comparator<Invocation<?, ?>> PRIORITY =
+        Comparator.<Invocation<?, ?>>comparingInt(invocation -> invocation.attempt == 0 ? 1 : 0)
+            .thenComparingInt(invocation -> -invocation.attempt)
+            .thenComparingInt(invocation -> invocation.callbackDelaySeconds)
+            .thenComparingLong(invocation -> invocation.sequence);
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final LoggerProxy logger;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService callbackScheduler;
+    private final HostStatistics statistics = new HostStatistics();
+    private final Set<CompletableFuture<?>> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Identical Glue reads of concurrent invocations are merged, see {@link CoalescingClientProxy}.
+     */
+    public HandlerHost(final int workerCount, final Credentials credentials, final LoggerProxy logger) {
+        this(workerCount, new CoalescingClientProxy(logger, credentials), logger);
+    }
+
+    /**
+     * @param proxy proxy shared by all invocations, it must schedule for callback rather than wait locally
+     */
+    public HandlerHost(final int workerCount, final AmazonWebServicesClientProxy proxy, final LoggerProxy logger) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("workerCount must be at least 1");
+        }
+        this.proxy = proxy;
+        this.logger = logger;
+        this.workers = new ThreadPoolExecutor(
+            workerCount,
+            workerCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(),
+            runnable -> daemon(runnable, "glue-handler-host-worker"));
+        this.callbackScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> daemon(runnable, "glue-handler-host-callback"));
+    }
+
+    /**
+     * Runs the handler until it returns a terminal event.
+     *
+     * Exceptions thrown by the handler complete the future with a FAILED event rather than exceptionally.
+     */
+    public <ModelT, CallbackT extends StdCallbackContext> CompletableFuture<ProgressEvent<ModelT, CallbackT>> submit(
+        final ResourceHandler<ModelT, CallbackT> handler,
+        final ResourceHandlerRequest<ModelT> request,
+        final CallbackT callbackContext) {
+
+        if (closed.get()) {
+            throw new RejectedExecutionException("HandlerHost is closed");
+        }
+
+        final CompletableFuture<ProgressEvent<ModelT, CallbackT>> result = new CompletableFuture<>();
+        pending.add(result);
+        result.whenComplete((event, throwable) -> pending.remove(result));
+        statistics.recordSubmission();
+
+        dispatch(new Invocation<>(handler, request, callbackContext, result, 0, 0, sequence.getAndIncrement()));
+        return result;
+    }
+
+    public HostStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Stops the workers. Requests that have not completed yet are cancelled.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        //Cancelled before the workers are interrupted, so an interrupted handler can't complete them first.
+        pending.forEach(future -> future.cancel(false));
+        callbackScheduler.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void dispatch(final Invocation<?, ?> invocation) {
+        try {
+            workers.execute(invocation);
+        } catch (RejectedExecutionException e) {
+            invocation.result.completeExceptionally(e);
+        }
+    }
+
+    private void schedule(final Invocation<?, ?> invocation) {
+        if (invocation.callbackDelaySeconds <= 0) {
+            dispatch(invocation);
+            return;
+        }
+        try {
+            callbackScheduler.schedule(() -> dispatch(invocation), invocation.callbackDelaySeconds, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            invocation.result.completeExceptionally(e);
+        }
+    }
+
+    private static Thread daemon(final Runnable runnable, final String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private final class Invocation<ModelT, CallbackT extends StdCallbackContext>
+        implements Runnable, Comparable<Invocation<?, ?>> {
+
+        private final ResourceHandler<ModelT, CallbackT> handler;
+        private final ResourceHandlerRequest<ModelT> request;
+        private final CallbackT callbackContext;
+        private final CompletableFuture<ProgressEvent<ModelT, CallbackT>> result;
+        private final int attempt;
+        private final int callbackDelaySeconds;
+        private final long sequence;
+
+        private Invocation(
+            final ResourceHandler<ModelT, CallbackT> handler,
+            final ResourceHandlerRequest<ModelT> request,
+            final CallbackT callbackContext,
+            final CompletableFuture<ProgressEvent<ModelT, CallbackT>> result,
+            final int attempt,
+            final int callbackDelaySeconds,
+            final long sequence) {
+            this.handler = handler;
+            this.request = request;
+            this.callbackContext = callbackContext;
+            this.result = result;
+            this.attempt = attempt;
+            this.callbackDelaySeconds = callbackDelaySeconds;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;
+            }
+            statistics.recordInvocation(attempt > 0);
+
+            final ProgressEvent<ModelT, CallbackT> event = invoke();
+
+            if (event.isInProgress()) {
+                final ResourceHandlerRequest<ModelT> nextRequest = event.getResourceModel() == null
+                    ? request
+                    : request.toBuilder().desiredResourceState(event.getResourceModel()).build();
+                final CallbackT nextCallbackContext = event.getCallbackContext() == null
+                    ? callbackContext
+                    : event.getCallbackContext();
+
+                schedule(new Invocation<>(handler, nextRequest, nextCallbackContext, result, attempt + 1,
+                    event.getCallbackDelaySeconds(), sequence));
+                return;
+            }
+
+            statistics.recordCompletion(event.isSuccess());
+            result.complete(event);
+        }
+
+        private ProgressEvent<ModelT, CallbackT> invoke() {
+            try {
+                final ProgressEvent<ModelT, CallbackT> event =
+                    handler.handleRequest(proxy, request, callbackContext, logger);
+                if (event == null) {
+                    return ProgressEvent.failed(request.getDesiredResourceState(), callbackContext,
+                        HandlerErrorCode.InternalFailure, "Handler returned no progress event");
+                }
+                return event;
+            } catch (final BaseHandlerException e) {
+                return ProgressEvent.defaultFailureHandler(e, e.getErrorCode());
+            } catch (final RuntimeException e) {
+                logger.log(String.format("Handler invocation failed: %s", e));
+                return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
+            }
+        }
+
+        @Override
+        public int compareTo(final Invocation<?, ?> other) {
+            return PRIORITY.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package software.amazon.glue.host;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent reads: when a read hasn't returned within a percentile of the recent latency
+ * of the same operation, an identical read is sent and whichever succeeds first is returned.
+ * Nothing is hedged until an operation has enough samples, and never sooner than the minimum
+ * delay. Every read earns a fraction of a hedge and every hedge spends a whole one, so hedges
+ * stay within that fraction of the reads.
+ *
+ * Reads of all callers run on one executor owned by the policy; its threads are daemons and
+ * exit after a minute without reads. Hand the policy to a {@link CoalescingClientProxy} to hedge
+ * the reads it sends to Glue.
+ */
+public class HedgingPolicy {
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final Duration DEFAULT_MINIMUM_DELAY = Duration.ofMillis(50);
+    public static final double DEFAULT_BUDGET_RATIO = 0.05;
+
+    private static final int WINDOW_SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+    private static final double MAX_BUDGET = 10;
+
+    private final double percentile;
+    private final long minimumDelayNanos;
+    private final double budgetRatio;
+    private final ExecutorService executorService;
+    private final ConcurrentHashMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private double budget;
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder hedgesOverBudget = new LongAdder();
+
+    public HedgingPolicy(final double percentile, final Duration minimumDelay, final double budgetRatio) {
+        if (percentile <= 0 || percentile >= 1 || budgetRatio < 0) {
+            throw new IllegalArgumentException("percentile must be within (0, 1) and budgetRatio not negative.");
+        }
+        this.percentile = percentile;
+        this.minimumDelayNanos = minimumDelay.toNanos();
+        this.budgetRatio = budgetRatio;
+        this.executorService = new ThreadPoolExecutor(
+            0,
+            Integer.MAX_VALUE,
+            1L,
+            TimeUnit.MINUTES,
+            new SynchronousQueue<>(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "glue-hedged-read");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Returns the result of the read, hedging it if it is slow. Reads that haven't finished when a
+     * result is returned are interrupted.
+     */
+    public <T> T read(final String operation, final Supplier<T> read) {
+        reads.increment();
+        earnBudget();
+        final LatencyWindow window = latencies.computeIfAbsent(operation, ignored -> new LatencyWindow());
+        final long start = System.nanoTime();
+
+        final long thresholdNanos = window.percentileNanos(percentile);
+        if (thresholdNanos < 0) {
+            final T result = read.get();
+            window.record(System.nanoTime() - start);
+            return result;
+        }
+
+        final CompletionService<Attempt<T>> completionService = new ExecutorCompletionService<>(executorService);
+        final List<Future<Attempt<T>>> attempts = new ArrayList<>(2);
+        try {
+            attempts.add(completionService.submit(() -> new Attempt<>(false, read.get())));
+
+            Future<Attempt<T>> done =
+                completionService.poll(Math.max(thresholdNanos, minimumDelayNanos), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                if (spendBudget()) {
+                    hedges.increment();
+                    attempts.add(completionService.submit(() -> new Attempt<>(true, read.get())));
+                } else {
+                    hedgesOverBudget.increment();
+                }
+                done = completionService.take();
+            }
+
+            int outstanding = attempts.size();
+            ExecutionException firstFailure = null;
+            while (true) {
+                outstanding--;
+                try {
+                    final Attempt<T> attempt = done.get();
+                    window.record(System.nanoTime() - start);
+                    if (attempt.hedge) {
+                        hedgeWins.increment();
+                    }
+                    return attempt.result;
+                } catch (final ExecutionException e) {
+                    firstFailure = firstFailure == null ? e : firstFailure;
+                    if (outstanding == 0) {
+                        throw unwrap(firstFailure);
+                    }
+                    done = completionService.take();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a read.", e);
+        } finally {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    /**
+     * Reads requested, hedged or not.
+     */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /**
+     * Hedges sent.
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * Reads answered by the hedge rather than the first call.
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Slow reads that weren't hedged because the budget was spent.
+     */
+    public long getHedgesOverBudget() {
+        return hedgesOverBudget.sum();
+    }
+
+    private synchronized void earnBudget() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    private synchronized boolean spendBudget() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+            return (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+            throw (Error) e.getCause();
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static final class Attempt<T> {
+        private final boolean hedge;
+        private final T result;
+
+        private Attempt(final boolean hedge, final T result) {
+            this.hedge = hedge;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Latencies of the most recent reads of one operation.
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+
+        private synchronized void record(final long latencyNanos) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+        }
+
+        /**
+         * Returns -1 until there are enough samples.
+         */
+        private long percentileNanos(final double percentile) {
+            final long[] sorted;
+            synchronized (this) {
+                if (count < MIN_SAMPLES) {
+                    return -1;
+                }
+                sorted = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.glue.host;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a HandlerHost.
+ */
+public class HostStatistics {
+    private final long startNanos = System.nanoTime();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder reInvocations = new LongAdder();
+
+    void recordSubmission() {
+        submitted.increment();
+    }
+
+    void recordInvocation(final boolean reInvocation) {
+        invocations.increment();
+        if (reInvocation) {
+            reInvocations.increment();
+        }
+    }
+
+    void recordCompletion(final boolean success) {
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getCompleted() {
+        return getSucceeded() + getFailed();
+    }
+
+    public long getInFlight() {
+        return getSubmitted() - getCompleted();
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getReInvocations() {
+        return reInvocations.sum();
+    }
+
+    /**
+     * Completed requests per second since the host was started.
+     */
+    public double getThroughputPerSecond() {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return elapsedMillis == 0 ? 0 : getCompleted() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "submitted=%d, succeeded=%d, failed=%d, inFlight=%d, invocations=%d, reInvocations=%d, throughput=%.2f/s",
+            getSubmitted(), getSucceeded(), getFailed(), getInFlight(), getInvocations(), getReInvocations(),
+            getThroughputPerSecond());
+    }
+}
@@ -0,0 +1,155 @@
+package software.amazon.glue.host;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+
+/**
+ * Responses to the Glue reads of the resource handlers for everything in one registry, as taken
+ * by {@link RegistrySnapshotReader}.
+ *
+ * Only requests the snapshot can answer exactly as Glue would are looked up: the registry, a
+ * schema by ARN or name, a version by id or by schema and number, and the unfiltered metadata
+ * of a version in one page. Anything else, including resources that aren't in the snapshot, is
+ * left to Glue.
+ */
+public final class RegistrySnapshot {
+    private static final Set<Class<? extends AwsRequest>> READ_REQUEST_TYPES = new HashSet<>(Arrays.asList(
+        GetRegistryRequest.class,
+        GetSchemaRequest.class,
+        GetSchemaVersionRequest.class,
+        GetSchemaByDefinitionRequest.class,
+        QuerySchemaVersionMetadataRequest.class,
+        ListRegistriesRequest.class,
+        ListSchemasRequest.class,
+        ListSchemaVersionsRequest.class,
+        GetTagsRequest.class));
+
+    private final GetRegistryResponse registry;
+    private final Map<String, GetSchemaResponse> schemasByArn;
+    private final Map<String, GetSchemaVersionResponse> versionsById;
+    private final Map<String, QuerySchemaVersionMetadataResponse> metadataByVersionId;
+    private final Map<String, GetSchemaResponse> schemasByName = new HashMap<>();
+    private final Map<String, GetSchemaVersionResponse> versionsByNumber = new HashMap<>();
+
+    RegistrySnapshot(
+        final GetRegistryResponse registry,
+        final Map<String, GetSchemaResponse> schemasByArn,
+        final Map<String, GetSchemaVersionResponse> versionsById,
+        final Map<String, QuerySchemaVersionMetadataResponse> metadataByVersionId) {
+        this.registry = registry;
+        this.schemasByArn = Collections.unmodifiableMap(schemasByArn);
+        this.versionsById = Collections.unmodifiableMap(versionsById);
+        this.metadataByVersionId = Collections.unmodifiableMap(metadataByVersionId);
+        schemasByArn.values().forEach(schema -> schemasByName.put(schema.schemaName(), schema));
+        versionsById.values().forEach(version ->
+            versionsByNumber.put(versionKey(version.schemaArn(), version.versionNumber()), version));
+    }
+
+    public GetRegistryResponse getRegistry() {
+        return registry;
+    }
+
+    public Collection<GetSchemaResponse> getSchemas() {
+        return schemasByArn.values();
+    }
+
+    public Collection<GetSchemaVersionResponse> getSchemaVersions() {
+        return versionsById.values();
+    }
+
+    /**
+     * @return whether the request only reads from Glue, so answering it can't miss a change
+     */
+    static boolean isRead(final AwsRequest request) {
+        return READ_REQUEST_TYPES.contains(request.getClass());
+    }
+
+    /**
+     * @return the response Glue would give to the request, or empty if the snapshot can't tell
+     */
+    Optional<AwsResponse> lookup(final AwsRequest request) {
+        if (request instanceof GetRegistryRequest) {
+            return Optional.ofNullable(isRegistry(((GetRegistryRequest) request).registryId()) ? registry : null);
+        }
+        if (request instanceof GetSchemaRequest) {
+            return Optional.ofNullable(findSchema(((GetSchemaRequest) request).schemaId()));
+        }
+        if (request instanceof GetSchemaVersionRequest) {
+            return Optional.ofNullable(findSchemaVersion((GetSchemaVersionRequest) request));
+        }
+        if (request instanceof QuerySchemaVersionMetadataRequest) {
+            final QuerySchemaVersionMetadataRequest query = (QuerySchemaVersionMetadataRequest) request;
+            if (query.schemaVersionId() == null || query.hasMetadataList() || query.nextToken() != null) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(metadataByVersionId.get(query.schemaVersionId()));
+        }
+        return Optional.empty();
+    }
+
+    private boolean isRegistry(final RegistryId registryId) {
+        if (registryId == null) {
+            return false;
+        }
+        return registryId.registryArn() != null
+            ? registryId.registryArn().equals(registry.registryArn())
+            : Objects.equals(registryId.registryName(), registry.registryName());
+    }
+
+    private GetSchemaResponse findSchema(final SchemaId schemaId) {
+        if (schemaId == null) {
+            return null;
+        }
+        if (schemaId.schemaArn() != null) {
+            return schemasByArn.get(schemaId.schemaArn());
+        }
+        if (!isRegistry(RegistryId.builder().registryName(schemaId.registryName()).build())) {
+            return null;
+        }
+        return schemasByName.get(schemaId.schemaName());
+    }
+
+    private GetSchemaVersionResponse findSchemaVersion(final GetSchemaVersionRequest request) {
+        if (request.schemaVersionId() != null) {
+            return versionsById.get(request.schemaVersionId());
+        }
+        final GetSchemaResponse schema = findSchema(request.schemaId());
+        final SchemaVersionNumber schemaVersionNumber = request.schemaVersionNumber();
+        if (schema == null || schemaVersionNumber == null) {
+            return null;
+        }
+        final Long versionNumber = Boolean.TRUE.equals(schemaVersionNumber.latestVersion())
+            ? schema.latestSchemaVersion()
+            : schemaVersionNumber.versionNumber();
+        return versionNumber == null ? null : versionsByNumber.get(versionKey(schema.schemaArn(), versionNumber));
+    }
+
+    private static String versionKey(final String schemaArn, final Long versionNumber) {
+        return schemaArn + '#' + versionNumber;
+    }
+}
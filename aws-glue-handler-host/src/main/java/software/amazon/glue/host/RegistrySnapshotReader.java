@@ -0,0 +1,301 @@
+package software.amazon.glue.host;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.OtherMetadataValueListItem;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+
+/**
+ * Reads a registry, its schemas, their versions and the metadata of those versions into a
+ * {@link RegistrySnapshot}, with at most the given number of Glue calls in flight.
+ *
+ * Pagination is pipelined: the next page of schemas is requested while the schemas of the
+ * current page are read, and the versions of a schema are read while its remaining schemas and
+ * pages are. Glue has no point-in-time reads, so consistency is checked per schema: its listed
+ * versions have to end at the latest version GetSchema reported, otherwise the schema is read
+ * again. Schemas and versions deleted during the read are left out.
+ */
+public class RegistrySnapshotReader {
+    private static final int LIST_PAGE_SIZE = 100;
+    private static final int METADATA_PAGE_SIZE = 50;
+    private static final int MAX_SCHEMA_ATTEMPTS = 3;
+
+    private final GlueClient glueClient;
+    private final int parallelism;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder schemaRereads = new LongAdder();
+
+    public RegistrySnapshotReader(final GlueClient glueClient, final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.glueClient = glueClient;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @throws EntityNotFoundException if the registry doesn't exist
+     * @throws IllegalStateException if a schema kept changing while it was read
+     */
+    public RegistrySnapshot read(final String registryName) {
+        final RegistryId registryId = RegistryId.builder().registryName(registryName).build();
+        calls.increment();
+        final GetRegistryResponse registry =
+            glueClient.getRegistry(GetRegistryRequest.builder().registryId(registryId).build());
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "glue-registry-snapshot-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final Walk walk = new Walk(executorService);
+            walk.submit(() -> listSchemas(walk, registryId, null));
+            walk.await();
+            return new RegistrySnapshot(registry, walk.schemas, walk.versions, walk.metadata);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Glue calls made, across all reads.
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Schemas read again because they changed while being read, across all reads.
+     */
+    public long getSchemaRereads() {
+        return schemaRereads.sum();
+    }
+
+    private void listSchemas(final Walk walk, final RegistryId registryId, final String nextToken) {
+        calls.increment();
+        final ListSchemasResponse page = glueClient.listSchemas(
+            ListSchemasRequest
+                .builder()
+                .registryId(registryId)
+                .maxResults(LIST_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build());
+
+        if (page.nextToken() != null) {
+            walk.submit(() -> listSchemas(walk, registryId, page.nextToken()));
+        }
+        for (final SchemaListItem schema : page.schemas()) {
+            walk.submit(() -> readSchema(walk, schema.schemaArn(), 1));
+        }
+    }
+
+    private void readSchema(final Walk walk, final String schemaArn, final int attempt) {
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        final GetSchemaResponse schema;
+        final List<SchemaVersionListItem> versions = new ArrayList<>();
+        try {
+            calls.increment();
+            schema = glueClient.getSchema(GetSchemaRequest.builder().schemaId(schemaId).build());
+
+            String nextToken = null;
+            do {
+                calls.increment();
+                final ListSchemaVersionsResponse page = glueClient.listSchemaVersions(
+                    ListSchemaVersionsRequest
+                        .builder()
+                        .schemaId(schemaId)
+                        .maxResults(LIST_PAGE_SIZE)
+                        .nextToken(nextToken)
+                        .build());
+                versions.addAll(page.schemas());
+                nextToken = page.nextToken();
+            } while (nextToken != null);
+        } catch (final EntityNotFoundException e) {
+            return;
+        }
+
+        final long lastListedVersion = versions
+            .stream()
+            .mapToLong(SchemaVersionListItem::versionNumber)
+            .max()
+            .orElse(0L);
+        if (schema.latestSchemaVersion() != null && lastListedVersion != schema.latestSchemaVersion()) {
+            if (attempt >= MAX_SCHEMA_ATTEMPTS) {
+                throw new IllegalStateException(
+                    String.format("Schema %s kept changing while it was read.", schemaArn));
+            }
+            schemaRereads.increment();
+            walk.submit(() -> readSchema(walk, schemaArn, attempt + 1));
+            return;
+        }
+
+        walk.schemas.put(schemaArn, schema);
+        for (final SchemaVersionListItem version : versions) {
+            walk.submit(() -> readSchemaVersion(walk, version.schemaVersionId()));
+        }
+    }
+
+    private void readSchemaVersion(final Walk walk, final String schemaVersionId) {
+        try {
+            calls.increment();
+            final GetSchemaVersionResponse version = glueClient.getSchemaVersion(
+                GetSchemaVersionRequest.builder().schemaVersionId(schemaVersionId).build());
+            final QuerySchemaVersionMetadataResponse metadata = readMetadata(schemaVersionId);
+
+            walk.versions.put(schemaVersionId, version);
+            walk.metadata.put(schemaVersionId, metadata);
+        } catch (final EntityNotFoundException e) {
+            return;
+        }
+    }
+
+    /**
+     * Merges every page into one response without a next token, as an unfiltered query of the
+     * version would return if it fit in one page.
+     */
+    private QuerySchemaVersionMetadataResponse readMetadata(final String schemaVersionId) {
+        final Map<String, MetadataInfo> metadataInfoMap = new LinkedHashMap<>();
+        String nextToken = null;
+        do {
+            calls.increment();
+            final QuerySchemaVersionMetadataResponse page = glueClient.querySchemaVersionMetadata(
+                QuerySchemaVersionMetadataRequest
+                    .builder()
+                    .schemaVersionId(schemaVersionId)
+                    .maxResults(METADATA_PAGE_SIZE)
+                    .nextToken(nextToken)
+                    .build());
+            if (page.hasMetadataInfoMap()) {
+                page.metadataInfoMap().forEach((key, metadataInfo) -> metadataInfoMap.merge(key, metadataInfo,
+                    RegistrySnapshotReader::mergeMetadataInfo));
+            }
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+
+        return QuerySchemaVersionMetadataResponse
+            .builder()
+            .schemaVersionId(schemaVersionId)
+            .metadataInfoMap(metadataInfoMap)
+            .build();
+    }
+
+    /**
+     * The values of a key with several values may come on more than one page, each page with its
+     * own latest value. The merged latest value is the one created last, the others follow newest
+     * first. Glue formats every created time the same way, so they order as strings.
+     */
+    private static MetadataInfo mergeMetadataInfo(final MetadataInfo current, final MetadataInfo next) {
+        final List<OtherMetadataValueListItem> values = new ArrayList<>();
+        addValues(current, values);
+        addValues(next, values);
+        values.sort(Comparator
+            .comparing(
+                OtherMetadataValueListItem::createdTime,
+                Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .reversed());
+
+        final OtherMetadataValueListItem latest = values.get(0);
+        return MetadataInfo
+            .builder()
+            .metadataValue(latest.metadataValue())
+            .createdTime(latest.createdTime())
+            .otherMetadataValueList(values.subList(1, values.size()))
+            .build();
+    }
+
+    private static void addValues(final MetadataInfo metadataInfo, final List<OtherMetadataValueListItem> values) {
+        values.add(OtherMetadataValueListItem
+            .builder()
+            .metadataValue(metadataInfo.metadataValue())
+            .createdTime(metadataInfo.createdTime())
+            .build());
+        if (metadataInfo.hasOtherMetadataValueList()) {
+            values.addAll(metadataInfo.otherMetadataValueList());
+        }
+    }
+
+    /**
+     * Tracks the calls of one read on the executor. Tasks never wait for each other, they only
+     * submit more tasks, so a fixed number of threads can't deadlock.
+     */
+    private static final class Walk {
+        private final ExecutorService executorService;
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private final Map<String, GetSchemaResponse> schemas = new ConcurrentHashMap<>();
+        private final Map<String, GetSchemaVersionResponse> versions = new ConcurrentHashMap<>();
+        private final Map<String, QuerySchemaVersionMetadataResponse> metadata = new ConcurrentHashMap<>();
+
+        private Walk(final ExecutorService executorService) {
+            this.executorService = executorService;
+        }
+
+        private void submit(final Runnable task) {
+            outstanding.incrementAndGet();
+            executorService.execute(() -> {
+                try {
+                    if (failure.get() == null) {
+                        task.run();
+                    }
+                } catch (final RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    finish();
+                }
+            });
+        }
+
+        private void await() {
+            finish();
+            try {
+                done.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while reading the registry.", e);
+            } catch (final ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+        }
+
+        private void finish() {
+            if (outstanding.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package software.amazon.glue.host;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Entry point of a resource handler as exposed by the generated BaseHandler,
+ * so any handler can be passed to the host as a method reference.
+ */
+@FunctionalInterface
+public interface ResourceHandler<ModelT, CallbackT extends StdCallbackContext> {
+    ProgressEvent<ModelT, CallbackT> handleRequest(
+        AmazonWebServicesClientProxy proxy,
+        ResourceHandlerRequest<ModelT> request,
+        CallbackT callbackContext,
+        Logger logger);
+}
@@ -0,0 +1,82 @@
+package software.amazon.glue.host;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+/**
+ * Proxy that answers the Glue reads of the handlers from registry snapshots, so that Read
+ * handlers run against a snapshot are local lookups through their usual translators.
+ *
+ * Any request that isn't a read may change what the snapshots describe, so after the first one
+ * every call goes to Glue. Reads the snapshots can't answer always go to Glue.
+ */
+public class SnapshotClientProxy extends AmazonWebServicesClientProxy {
+    private final List<RegistrySnapshot> snapshots;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder forwarded = new LongAdder();
+    private volatile boolean stale;
+
+    public SnapshotClientProxy(
+        final LoggerProxy logger,
+        final Credentials credentials,
+        final RegistrySnapshot... snapshots) {
+        super(
+            logger,
+            credentials,
+            DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+            WaitStrategy.scheduleForCallbackStrategy());
+        this.snapshots = Arrays.asList(snapshots);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <RequestT extends AwsRequest, ResultT extends AwsResponse> ResultT injectCredentialsAndInvokeV2(
+        final RequestT request,
+        final Function<RequestT, ResultT> requestFunction) {
+
+        if (!RegistrySnapshot.isRead(request)) {
+            stale = true;
+        } else if (!stale) {
+            for (final RegistrySnapshot snapshot : snapshots) {
+                final Optional<AwsResponse> response = snapshot.lookup(request);
+                if (response.isPresent()) {
+                    hits.increment();
+                    return (ResultT) response.get();
+                }
+            }
+        }
+        forwarded.increment();
+        return super.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    /**
+     * Calls answered from a snapshot.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Calls sent to Glue.
+     */
+    public long getForwarded() {
+        return forwarded.sum();
+    }
+
+    /**
+     * @return whether a request other than a read went through, after which the snapshots are no longer used
+     */
+    public boolean isStale() {
+        return stale;
+    }
+}
@@ -0,0 +1,175 @@
+package software.amazon.glue.host;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CoalescingClientProxyTest {
+    private static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy logger = new LoggerProxy();
+    private static final String SCHEMA_VERSION_ID = "b2b1b4c0-0d4c-4b4a-9c4e-2b6a8c1f3d21";
+    private static final GetSchemaVersionResponse GET_SCHEMA_VERSION_RESPONSE =
+        GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_VERSION_ID).build();
+
+    private CoalescingClientProxy proxy;
+    private AtomicInteger glueCalls;
+    private CountDownLatch release;
+    private volatile RuntimeException failure;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new CoalescingClientProxy(logger, MOCK_CREDENTIALS);
+        glueCalls = new AtomicInteger();
+        release = new CountDownLatch(1);
+        executorService = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WhenIdenticalReadIsInFlight_SharesItsResponse() throws Exception {
+        final Future<AwsResponse> first = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> glueCalls.get() == 1);
+        final Future<AwsResponse> second = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> proxy.getCoalescedCalls() == 1);
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(GET_SCHEMA_VERSION_RESPONSE);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(GET_SCHEMA_VERSION_RESPONSE);
+        assertThat(glueCalls.get()).isEqualTo(1);
+        assertThat(proxy.getCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WhenReadsDiffer_SendsEach() throws Exception {
+        final Future<AwsResponse> first = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        final Future<AwsResponse> second = executorService.submit(() -> getSchemaVersion("another-version"));
+        awaitTrue(() -> glueCalls.get() == 2);
+
+        release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(proxy.getCoalescedCalls()).isEqualTo(0);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WhenWriteCompletedAfterReadStarted_DoesNotJoinIt() throws Exception {
+        final Future<AwsResponse> first = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> glueCalls.get() == 1);
+
+        proxy.injectCredentialsAndInvokeV2(
+            DeleteSchemaVersionsRequest.builder().build(),
+            request -> DeleteSchemaVersionsResponse.builder().build());
+        final Future<AwsResponse> second = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> glueCalls.get() == 2);
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(GET_SCHEMA_VERSION_RESPONSE);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(GET_SCHEMA_VERSION_RESPONSE);
+        assertThat(proxy.getCalls()).isEqualTo(2);
+        assertThat(proxy.getCoalescedCalls()).isEqualTo(0);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WhenSharedReadFails_ThrowsToEveryCaller() throws Exception {
+        failure = EntityNotFoundException.builder().message("Schema version is not found.").build();
+        final Future<AwsResponse> first = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> glueCalls.get() == 1);
+        final Future<AwsResponse> second = executorService.submit(() -> getSchemaVersion(SCHEMA_VERSION_ID));
+        awaitTrue(() -> proxy.getCoalescedCalls() == 1);
+
+        release.countDown();
+
+        assertThat(assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS)))
+            .hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThat(assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS)))
+            .hasCauseInstanceOf(EntityNotFoundException.class);
+        assertThat(glueCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WithHedgingPolicy_SendsHedgeForSlowRead() {
+        final HedgingPolicy hedgingPolicy = new HedgingPolicy(0.95, Duration.ofMillis(200), 1.0);
+        final CoalescingClientProxy hedgingProxy = new CoalescingClientProxy(logger, MOCK_CREDENTIALS, hedgingPolicy);
+        final GetSchemaVersionRequest getSchemaVersionRequest =
+            GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_VERSION_ID).build();
+        for (int i = 0; i < 20; i++) {
+            hedgingProxy.injectCredentialsAndInvokeV2(getSchemaVersionRequest, request -> GET_SCHEMA_VERSION_RESPONSE);
+        }
+
+        final GetSchemaVersionResponse hedgeResponse =
+            GetSchemaVersionResponse.builder().schemaVersionId(SCHEMA_VERSION_ID).versionNumber(1L).build();
+        final AtomicInteger attempts = new AtomicInteger();
+        final AwsResponse response = hedgingProxy.injectCredentialsAndInvokeV2(getSchemaVersionRequest, request -> {
+            if (attempts.getAndIncrement() > 0) {
+                return hedgeResponse;
+            }
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return GET_SCHEMA_VERSION_RESPONSE;
+        });
+
+        assertThat(response).isSameAs(hedgeResponse);
+        assertThat(hedgingPolicy.getHedgeWins()).isEqualTo(1);
+        assertThat(hedgingProxy.getCalls()).isEqualTo(21);
+    }
+
+    /**
+     * Holds every read in Glue until released, so tests control which calls overlap.
+     */
+    private AwsResponse getSchemaVersion(final String schemaVersionId) {
+        return proxy.injectCredentialsAndInvokeV2(
+            GetSchemaVersionRequest.builder().schemaVersionId(schemaVersionId).build(),
+            request -> {
+                glueCalls.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                return GET_SCHEMA_VERSION_RESPONSE;
+            });
+    }
+
+    private static void awaitTrue(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package software.amazon.glue.host;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.DeleteRegistryRequest;
+import software.amazon.awssdk.services.glue.model.DeleteRegistryResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HandlerHostTest {
+    private static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy logger = new LoggerProxy();
+
+    private LocalGlue localGlue;
+    private HandlerHost host;
+
+    @BeforeEach
+    public void setup() {
+        localGlue = new LocalGlue(3);
+        host = new HandlerHost(8, MOCK_CREDENTIALS, logger);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        host.close();
+    }
+
+    @Test
+    public void submit_WhenManyRegistriesAreCreated_ReturnsSuccessForEach() throws Exception {
+        final int registries = 500;
+        final List<CompletableFuture<ProgressEvent<Model, Context>>> futures = new ArrayList<>();
+        for (int i = 0; i < registries; i++) {
+            futures.add(host.submit(localGlue::createRegistry, request("registry-" + i), new Context()));
+        }
+
+        for (int i = 0; i < registries; i++) {
+            final ProgressEvent<Model, Context> event = futures.get(i).get(30, TimeUnit.SECONDS);
+            assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(event.getResourceModel().getName()).isEqualTo("registry-" + i);
+            assertThat(event.getResourceModel().getStatus()).isEqualTo("AVAILABLE");
+        }
+
+        final HostStatistics statistics = host.getStatistics();
+        assertThat(statistics.getSubmitted()).isEqualTo(registries);
+        assertThat(statistics.getSucceeded()).isEqualTo(registries);
+        assertThat(statistics.getFailed()).isEqualTo(0);
+        assertThat(statistics.getInFlight()).isEqualTo(0);
+        assertThat(statistics.getInvocations()).isEqualTo(registries * 4L);
+        assertThat(statistics.getReInvocations()).isEqualTo(registries * 3L);
+        assertThat(statistics.getThroughputPerSecond()).isGreaterThan(0);
+    }
+
+    @Test
+    public void submit_WhenHandlerThrowsHandlerException_ReturnsFailedEvent() throws Exception {
+        host.submit(localGlue::createRegistry, request("duplicate"), new Context()).get(30, TimeUnit.SECONDS);
+
+        final ProgressEvent<Model, Context> event =
+            host.submit(localGlue::createRegistry, request("duplicate"), new Context()).get(30, TimeUnit.SECONDS);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(host.getStatistics().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    public void submit_WhenHandlerThrowsUnexpectedException_ReturnsInternalFailure() throws Exception {
+        final ProgressEvent<Model, Context> event = host.<Model, Context>submit(
+            (proxy, request, callbackContext, log) -> {
+                throw new IllegalStateException("boom");
+            },
+            request("broken"),
+            new Context()).get(30, TimeUnit.SECONDS);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+    }
+
+    @Test
+    public void submit_WhenWorkerFreesUp_RunsReInvocationBeforeNewSubmission() throws Exception {
+        host.close();
+        host = new HandlerHost(1, MOCK_CREDENTIALS, logger);
+
+        final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch newSubmissionQueued = new CountDownLatch(1);
+        final ResourceHandler<Model, Context> recording = (proxy, request, callbackContext, log) -> {
+            final String name = request.getDesiredResourceState().getName();
+            order.add(name + "#" + callbackContext.getPolls());
+            if ("stabilizing".equals(name) && callbackContext.getPolls() == 0) {
+                awaitQuietly(newSubmissionQueued);
+                callbackContext.setPolls(1);
+                return ProgressEvent.defaultInProgressHandler(callbackContext, 0, request.getDesiredResourceState());
+            }
+            return ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        };
+
+        final CompletableFuture<ProgressEvent<Model, Context>> stabilizing =
+            host.submit(recording, request("stabilizing"), new Context());
+        final CompletableFuture<ProgressEvent<Model, Context>> fresh =
+            host.submit(recording, request("fresh"), new Context());
+        newSubmissionQueued.countDown();
+
+        stabilizing.get(30, TimeUnit.SECONDS);
+        fresh.get(30, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("stabilizing#0", "stabilizing#1", "fresh#0");
+    }
+
+    @Test
+    public void close_WhenRequestsArePending_CancelsThem() {
+        final CountDownLatch never = new CountDownLatch(1);
+        final CompletableFuture<ProgressEvent<Model, Context>> blocked = host.submit(
+            (proxy, request, callbackContext, log) -> {
+                awaitQuietly(never);
+                return ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+            },
+            request("blocked"),
+            new Context());
+
+        host.close();
+
+        assertThat(blocked.isCancelled()).isTrue();
+        assertThrows(CancellationException.class, blocked::get);
+        assertThrows(RejectedExecutionException.class, () ->
+            host.submit(localGlue::createRegistry, request("late"), new Context()));
+    }
+
+    @Test
+    public void submit_WhenProxyDeleteStabilizes_ReInvokesHandlerUntilDeleted() throws Exception {
+        final DeletingGlueClient glueClient = new DeletingGlueClient(2);
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+            logger,
+            MOCK_CREDENTIALS,
+            DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+            WaitStrategy.scheduleForCallbackStrategy());
+        host.close();
+        host = new HandlerHost(2, proxy, logger);
+
+        final ProgressEvent<Model, Context> event =
+            host.submit(new DeleteRegistry(glueClient), request("registry"), new Context()).get(30, TimeUnit.SECONDS);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //The delete call is recorded in the callback context, so re-invocations only poll.
+        assertThat(glueClient.getCalls()).containsExactly(
+            "DeleteRegistryRequest", "GetRegistryRequest", "GetRegistryRequest", "GetRegistryRequest");
+
+        final HostStatistics statistics = host.getStatistics();
+        assertThat(statistics.getSucceeded()).isEqualTo(1);
+        assertThat(statistics.getInvocations()).isEqualTo(3);
+        assertThat(statistics.getReInvocations()).isEqualTo(2);
+    }
+
+    private static ResourceHandlerRequest<Model> request(final String name) {
+        final Model model = new Model();
+        model.setName(name);
+        return ResourceHandlerRequest.<Model>builder().desiredResourceState(model).build();
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * In-memory stand-in for Glue where a created registry reports CREATING for a fixed number of polls.
+     */
+    private static class LocalGlue {
+        private final int pollsUntilAvailable;
+        private final Map<String, Integer> registries = new ConcurrentHashMap<>();
+
+        LocalGlue(final int pollsUntilAvailable) {
+            this.pollsUntilAvailable = pollsUntilAvailable;
+        }
+
+        ProgressEvent<Model, Context> createRegistry(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<Model> request,
+            final Context callbackContext,
+            final Logger log) {
+
+            final Model model = request.getDesiredResourceState();
+            if (!callbackContext.isRegistered()) {
+                if (registries.putIfAbsent(model.getName(), 0) != null) {
+                    throw new CfnAlreadyExistsException("AWS::Glue::Registry", model.getName());
+                }
+                callbackContext.setRegistered(true);
+            }
+
+            final Integer polls = registries.computeIfPresent(model.getName(), (name, count) -> count + 1);
+            if (polls == null) {
+                throw new CfnNotFoundException("AWS::Glue::Registry", model.getName());
+            }
+            callbackContext.setPolls(polls);
+            if (polls <= pollsUntilAvailable) {
+                model.setStatus("CREATING");
+                return ProgressEvent.defaultInProgressHandler(callbackContext, 0, model);
+            }
+            model.setStatus("AVAILABLE");
+            return ProgressEvent.defaultSuccessHandler(model);
+        }
+    }
+
+    /**
+     * Registry delete written like the resource handlers, through the call chain of the proxy,
+     * so the host drives the same stabilization and callback context as a real handler.
+     */
+    private static class DeleteRegistry implements ResourceHandler<Model, Context> {
+        private final GlueClient glueClient;
+
+        DeleteRegistry(final GlueClient glueClient) {
+            this.glueClient = glueClient;
+        }
+
+        @Override
+        public ProgressEvent<Model, Context> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<Model> request,
+            final Context callbackContext,
+            final Logger log) {
+
+            return proxy.initiate(
+                "Test::Registry::Delete",
+                proxy.newProxy(() -> glueClient),
+                request.getDesiredResourceState(),
+                callbackContext)
+                .translateToServiceRequest(model ->
+                    DeleteRegistryRequest
+                        .builder()
+                        .registryId(RegistryId.builder().registryName(model.getName()).build())
+                        .build())
+                .backoffDelay(Constant.of().delay(Duration.ofSeconds(1)).timeout(Duration.ofMinutes(1)).build())
+                .makeServiceCall((awsRequest, client) ->
+                    client.injectCredentialsAndInvokeV2(awsRequest, client.client()::deleteRegistry))
+                .stabilize((awsRequest, awsResponse, client, model, context) -> {
+                    try {
+                        client.injectCredentialsAndInvokeV2(
+                            GetRegistryRequest.builder().registryId(awsRequest.registryId()).build(),
+                            client.client()::getRegistry);
+                        return false;
+                    } catch (final EntityNotFoundException e) {
+                        return true;
+                    }
+                })
+                .done(awsResponse -> ProgressEvent.defaultSuccessHandler(null));
+        }
+    }
+
+    /**
+     * Glue client where a deleted registry reports DELETING for a fixed number of polls and is then gone.
+     */
+    private static class DeletingGlueClient implements GlueClient {
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger pollsUntilDeleted;
+
+        DeletingGlueClient(final int pollsUntilDeleted) {
+            this.pollsUntilDeleted = new AtomicInteger(pollsUntilDeleted);
+        }
+
+        @Override
+        public DeleteRegistryResponse deleteRegistry(final DeleteRegistryRequest request) {
+            calls.add(request.getClass().getSimpleName());
+            return DeleteRegistryResponse.builder()
+                .registryName(request.registryId().registryName())
+                .status(RegistryStatus.DELETING)
+                .build();
+        }
+
+        @Override
+        public GetRegistryResponse getRegistry(final GetRegistryRequest request) {
+            calls.add(request.getClass().getSimpleName());
+            if (pollsUntilDeleted.getAndDecrement() > 0) {
+                return GetRegistryResponse.builder().status(RegistryStatus.DELETING).build();
+            }
+            throw EntityNotFoundException.builder().message("Registry not found").build();
+        }
+
+        @Override
+        public String serviceName() {
+            return GlueClient.SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        List<String> getCalls() {
+            return calls;
+        }
+    }
+
+    private static class Model {
+        private String name;
+        private String status;
+
+        String getName() {
+            return name;
+        }
+
+        void setName(final String name) {
+            this.name = name;
+        }
+
+        String getStatus() {
+            return status;
+        }
+
+        void setStatus(final String status) {
+            this.status = status;
+        }
+    }
+
+    private static class Context extends StdCallbackContext {
+        private boolean registered;
+        private int polls;
+
+        boolean isRegistered() {
+            return registered;
+        }
+
+        void setRegistered(final boolean registered) {
+            this.registered = registered;
+        }
+
+        int getPolls() {
+            return polls;
+        }
+
+        void setPolls(final int polls) {
+            this.polls = polls;
+        }
+    }
+}
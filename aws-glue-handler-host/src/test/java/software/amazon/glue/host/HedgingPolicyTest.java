@@ -0,0 +1,110 @@
+package software.amazon.glue.host;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HedgingPolicyTest {
+    private static final String OPERATION = "GetSchemaVersion";
+    private static final Duration MINIMUM_DELAY = Duration.ofMillis(200);
+
+    @Test
+    public void read_WhenCallIsSlowerThanThreshold_ReturnsHedgeResult() {
+        final HedgingPolicy policy = new HedgingPolicy(0.95, MINIMUM_DELAY, 1.0);
+        warmUp(policy);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final String result = policy.read(OPERATION, firstAttemptWaits(release, "primary", "hedge"));
+        release.countDown();
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(policy.getHedges()).isEqualTo(1);
+        assertThat(policy.getHedgeWins()).isEqualTo(1);
+    }
+
+    @Test
+    public void read_WhenBudgetIsSpent_WaitsForFirstCall() {
+        final HedgingPolicy policy = new HedgingPolicy(0.95, MINIMUM_DELAY, 0);
+        warmUp(policy);
+
+        final String result =
+            policy.read(OPERATION, firstAttemptSleeps(MINIMUM_DELAY.multipliedBy(3), "primary", "hedge"));
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(policy.getHedges()).isEqualTo(0);
+        assertThat(policy.getHedgesOverBudget()).isEqualTo(1);
+    }
+
+    @Test
+    public void read_WhenOperationHasTooFewSamples_DoesNotHedge() {
+        final HedgingPolicy policy = new HedgingPolicy(0.95, MINIMUM_DELAY, 1.0);
+
+        final String result =
+            policy.read(OPERATION, firstAttemptSleeps(MINIMUM_DELAY.multipliedBy(3), "primary", "hedge"));
+
+        assertThat(result).isEqualTo("primary");
+        assertThat(policy.getHedges()).isEqualTo(0);
+        assertThat(policy.getHedgesOverBudget()).isEqualTo(0);
+    }
+
+    @Test
+    public void read_WhenCallFails_ThrowsItsException() {
+        final HedgingPolicy policy = new HedgingPolicy(0.95, MINIMUM_DELAY, 1.0);
+        warmUp(policy);
+
+        assertThrows(InternalServiceException.class, () -> policy.read(OPERATION, () -> {
+            throw InternalServiceException.builder().message("Internal failure.").build();
+        }));
+        assertThat(policy.getHedges()).isEqualTo(0);
+    }
+
+    private static void warmUp(final HedgingPolicy policy) {
+        for (int i = 0; i < 20; i++) {
+            policy.read(OPERATION, () -> "warm-up");
+        }
+    }
+
+    private static Supplier<String> firstAttemptWaits(
+        final CountDownLatch release,
+        final String firstResult,
+        final String laterResult) {
+        final AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return firstResult;
+            }
+            return laterResult;
+        };
+    }
+
+    private static Supplier<String> firstAttemptSleeps(
+        final Duration sleep,
+        final String firstResult,
+        final String laterResult) {
+        final AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(sleep.toMillis());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return firstResult;
+            }
+            return laterResult;
+        };
+    }
+}
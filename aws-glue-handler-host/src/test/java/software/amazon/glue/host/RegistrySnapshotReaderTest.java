@@ -0,0 +1,376 @@
+package software.amazon.glue.host;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.OtherMetadataValueListItem;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RegistrySnapshotReaderTest {
+    private static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final LoggerProxy logger = new LoggerProxy();
+    private static final String REGISTRY_NAME = "registry";
+    private static final String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789012:registry/" + REGISTRY_NAME;
+    private static final String OLDEST_TIME = "2021-01-01T00:00:00.000Z";
+    private static final String OLDER_TIME = "2022-01-01T00:00:00.000Z";
+    private static final String NEWER_TIME = "2023-01-01T00:00:00.000Z";
+
+    private LocalGlue localGlue;
+
+    @BeforeEach
+    public void setup() {
+        localGlue = new LocalGlue();
+    }
+
+    @Test
+    public void read_WhenRegistryHasManySchemas_SnapshotsEveryPage() {
+        for (int i = 0; i < 250; i++) {
+            localGlue.addSchema("schema-" + i, 1 + i % 3);
+        }
+        localGlue.addSchema("long-lived", 150);
+
+        final RegistrySnapshotReader reader = new RegistrySnapshotReader(localGlue, 4);
+        final RegistrySnapshot snapshot = reader.read(REGISTRY_NAME);
+
+        assertThat(snapshot.getRegistry().registryArn()).isEqualTo(REGISTRY_ARN);
+        assertThat(snapshot.getSchemas()).hasSize(251);
+        assertThat(snapshot.getSchemaVersions()).hasSize(499 + 150);
+        assertThat(localGlue.maxInFlight.get()).isLessThanOrEqualTo(4);
+
+        final GetSchemaResponse schema = (GetSchemaResponse) snapshot.lookup(GetSchemaRequest.builder()
+            .schemaId(SchemaId.builder().registryName(REGISTRY_NAME).schemaName("long-lived").build())
+            .build()).get();
+        assertThat(schema.latestSchemaVersion()).isEqualTo(150L);
+
+        final GetSchemaVersionResponse latest = (GetSchemaVersionResponse) snapshot.lookup(
+            GetSchemaVersionRequest.builder()
+                .schemaId(SchemaId.builder().schemaArn(schema.schemaArn()).build())
+                .schemaVersionNumber(SchemaVersionNumber.builder().latestVersion(true).build())
+                .build()).get();
+        assertThat(latest.versionNumber()).isEqualTo(150L);
+        assertThat(latest.schemaVersionId()).isEqualTo(versionId("long-lived", 150));
+
+        final QuerySchemaVersionMetadataResponse metadata = (QuerySchemaVersionMetadataResponse) snapshot.lookup(
+            QuerySchemaVersionMetadataRequest.builder().schemaVersionId(latest.schemaVersionId()).build()).get();
+        assertThat(metadata.nextToken()).isNull();
+        assertThat(metadata.metadataInfoMap()).hasSize(60);
+    }
+
+    @Test
+    public void read_WhenKeyHasValuesOnSeveralPages_KeepsNewestValueAsLatest() {
+        localGlue.addSchema("owned", 2);
+
+        final RegistrySnapshot snapshot = new RegistrySnapshotReader(localGlue, 2).read(REGISTRY_NAME);
+
+        final MetadataInfo newestOnFirstPage = owner(snapshot, versionId("owned", 1));
+        assertThat(newestOnFirstPage.metadataValue()).isEqualTo("team-a");
+        assertThat(newestOnFirstPage.createdTime()).isEqualTo(NEWER_TIME);
+        assertThat(newestOnFirstPage.otherMetadataValueList())
+            .extracting(OtherMetadataValueListItem::metadataValue)
+            .containsExactly("team-b", "team-0");
+
+        final MetadataInfo newestOnSecondPage = owner(snapshot, versionId("owned", 2));
+        assertThat(newestOnSecondPage.metadataValue()).isEqualTo("team-b");
+        assertThat(newestOnSecondPage.createdTime()).isEqualTo(NEWER_TIME);
+        assertThat(newestOnSecondPage.otherMetadataValueList())
+            .extracting(OtherMetadataValueListItem::metadataValue)
+            .containsExactly("team-a", "team-0");
+    }
+
+    @Test
+    public void read_WhenVersionIsRegisteredDuringRead_ReadsSchemaAgain() {
+        localGlue.addSchema("busy", 2);
+        localGlue.registerOnFirstList.add("busy");
+
+        final RegistrySnapshotReader reader = new RegistrySnapshotReader(localGlue, 2);
+        final RegistrySnapshot snapshot = reader.read(REGISTRY_NAME);
+
+        assertThat(reader.getSchemaRereads()).isEqualTo(1);
+        assertThat(snapshot.getSchemas()).extracting(GetSchemaResponse::latestSchemaVersion).containsExactly(3L);
+        assertThat(snapshot.getSchemaVersions()).hasSize(3);
+    }
+
+    @Test
+    public void read_WhenSchemaKeepsChanging_Throws() {
+        localGlue.addSchema("busy", 2);
+        localGlue.registerOnEveryList.add("busy");
+
+        final RegistrySnapshotReader reader = new RegistrySnapshotReader(localGlue, 2);
+
+        assertThrows(IllegalStateException.class, () -> reader.read(REGISTRY_NAME));
+    }
+
+    @Test
+    public void read_WhenSchemaIsDeletedDuringRead_LeavesItOut() {
+        localGlue.addSchema("kept", 1);
+        localGlue.addSchema("deleted", 1);
+        localGlue.deletedAfterListing.add("deleted");
+
+        final RegistrySnapshot snapshot = new RegistrySnapshotReader(localGlue, 2).read(REGISTRY_NAME);
+
+        assertThat(snapshot.getSchemas()).extracting(GetSchemaResponse::schemaName).containsExactly("kept");
+        assertThat(snapshot.lookup(GetSchemaRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schemaArn("deleted")).build())
+            .build())).isEmpty();
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_WhenSnapshotHasResponse_DoesNotCallGlue() {
+        localGlue.addSchema("schema", 2);
+        final RegistrySnapshot snapshot = new RegistrySnapshotReader(localGlue, 2).read(REGISTRY_NAME);
+        final SnapshotClientProxy proxy = new SnapshotClientProxy(logger, MOCK_CREDENTIALS, snapshot);
+        final int callsAfterRead = localGlue.calls.get();
+
+        final GetSchemaRequest getSchemaRequest = GetSchemaRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schemaArn("schema")).build())
+            .build();
+        final GetRegistryResponse registry = proxy.injectCredentialsAndInvokeV2(
+            GetRegistryRequest.builder().registryId(RegistryId.builder().registryArn(REGISTRY_ARN).build()).build(),
+            localGlue::getRegistry);
+        final GetSchemaResponse schema = proxy.injectCredentialsAndInvokeV2(getSchemaRequest, localGlue::getSchema);
+        proxy.injectCredentialsAndInvokeV2(
+            GetTagsRequest.builder().resourceArn(schemaArn("schema")).build(), localGlue::getTags);
+
+        assertThat(registry.registryName()).isEqualTo(REGISTRY_NAME);
+        assertThat(schema.latestSchemaVersion()).isEqualTo(2L);
+        assertThat(proxy.getHits()).isEqualTo(2);
+        assertThat(proxy.getForwarded()).isEqualTo(1);
+        assertThat(localGlue.calls.get()).isEqualTo(callsAfterRead + 1);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_AfterWrite_CallsGlue() {
+        localGlue.addSchema("schema", 2);
+        final RegistrySnapshot snapshot = new RegistrySnapshotReader(localGlue, 2).read(REGISTRY_NAME);
+        final SnapshotClientProxy proxy = new SnapshotClientProxy(logger, MOCK_CREDENTIALS, snapshot);
+        final GetSchemaRequest getSchemaRequest = GetSchemaRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schemaArn("schema")).build())
+            .build();
+
+        proxy.injectCredentialsAndInvokeV2(
+            UpdateSchemaRequest.builder().schemaId(getSchemaRequest.schemaId()).description("changed").build(),
+            request -> null);
+        proxy.injectCredentialsAndInvokeV2(getSchemaRequest, localGlue::getSchema);
+
+        assertThat(proxy.isStale()).isTrue();
+        assertThat(proxy.getHits()).isEqualTo(0);
+        assertThat(proxy.getForwarded()).isEqualTo(2);
+    }
+
+    private static String schemaArn(final String schemaName) {
+        return "arn:aws:glue:us-east-1:123456789012:schema/" + REGISTRY_NAME + "/" + schemaName;
+    }
+
+    private static String versionId(final String schemaName, final long versionNumber) {
+        return schemaName + "-v" + versionNumber;
+    }
+
+    private static MetadataInfo owner(final RegistrySnapshot snapshot, final String schemaVersionId) {
+        final QuerySchemaVersionMetadataResponse metadata = (QuerySchemaVersionMetadataResponse) snapshot.lookup(
+            QuerySchemaVersionMetadataRequest.builder().schemaVersionId(schemaVersionId).build()).get();
+        return metadata.metadataInfoMap().get("owner");
+    }
+
+    /**
+     * Glue with one registry, paging every list the way Glue does. Calls may run concurrently.
+     */
+    private static class LocalGlue implements GlueClient {
+        private final List<String> schemaNames = Collections.synchronizedList(new ArrayList<>());
+        private final Map<String, AtomicInteger> latestVersions = new ConcurrentHashMap<>();
+        private final Set<String> registerOnFirstList = ConcurrentHashMap.newKeySet();
+        private final Set<String> registerOnEveryList = ConcurrentHashMap.newKeySet();
+        private final Set<String> deletedAfterListing = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private void addSchema(final String schemaName, final int versions) {
+            schemaNames.add(schemaName);
+            latestVersions.put(schemaName, new AtomicInteger(versions));
+        }
+
+        @Override
+        public GetRegistryResponse getRegistry(final GetRegistryRequest request) {
+            return call(() -> GetRegistryResponse.builder()
+                .registryName(REGISTRY_NAME)
+                .registryArn(REGISTRY_ARN)
+                .status("AVAILABLE")
+                .build());
+        }
+
+        @Override
+        public ListSchemasResponse listSchemas(final ListSchemasRequest request) {
+            return call(() -> {
+                final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+                final int to = Math.min(schemaNames.size(), from + request.maxResults());
+                final List<SchemaListItem> schemas = new ArrayList<>();
+                for (final String schemaName : schemaNames.subList(from, to)) {
+                    schemas.add(
+                        SchemaListItem.builder().schemaName(schemaName).schemaArn(schemaArn(schemaName)).build());
+                }
+                return ListSchemasResponse.builder()
+                    .schemas(schemas)
+                    .nextToken(to < schemaNames.size() ? String.valueOf(to) : null)
+                    .build();
+            });
+        }
+
+        @Override
+        public GetSchemaResponse getSchema(final GetSchemaRequest request) {
+            return call(() -> {
+                final String schemaName = schemaName(request.schemaId().schemaArn());
+                if (deletedAfterListing.contains(schemaName)) {
+                    throw EntityNotFoundException.builder().message("Schema not found").build();
+                }
+                return GetSchemaResponse.builder()
+                    .schemaName(schemaName)
+                    .schemaArn(request.schemaId().schemaArn())
+                    .registryName(REGISTRY_NAME)
+                    .registryArn(REGISTRY_ARN)
+                    .latestSchemaVersion((long) latestVersions.get(schemaName).get())
+                    .build();
+            });
+        }
+
+        @Override
+        public ListSchemaVersionsResponse listSchemaVersions(final ListSchemaVersionsRequest request) {
+            return call(() -> {
+                final String schemaName = schemaName(request.schemaId().schemaArn());
+                final int from = request.nextToken() == null ? 1 : Integer.parseInt(request.nextToken());
+                if (from == 1 && (registerOnFirstList.remove(schemaName) || registerOnEveryList.contains(schemaName))) {
+                    latestVersions.get(schemaName).incrementAndGet();
+                }
+                final int latest = latestVersions.get(schemaName).get();
+                final int to = Math.min(latest + 1, from + request.maxResults());
+                final List<SchemaVersionListItem> versions = new ArrayList<>();
+                for (int versionNumber = from; versionNumber < to; versionNumber++) {
+                    versions.add(SchemaVersionListItem.builder()
+                        .schemaArn(request.schemaId().schemaArn())
+                        .schemaVersionId(versionId(schemaName, versionNumber))
+                        .versionNumber((long) versionNumber)
+                        .build());
+                }
+                return ListSchemaVersionsResponse.builder()
+                    .schemas(versions)
+                    .nextToken(to <= latest ? String.valueOf(to) : null)
+                    .build();
+            });
+        }
+
+        @Override
+        public GetSchemaVersionResponse getSchemaVersion(final GetSchemaVersionRequest request) {
+            return call(() -> {
+                final String schemaVersionId = request.schemaVersionId();
+                final int separator = schemaVersionId.lastIndexOf("-v");
+                return GetSchemaVersionResponse.builder()
+                    .schemaVersionId(schemaVersionId)
+                    .schemaArn(schemaArn(schemaVersionId.substring(0, separator)))
+                    .versionNumber(Long.parseLong(schemaVersionId.substring(separator + 2)))
+                    .status("AVAILABLE")
+                    .build();
+            });
+        }
+
+        /**
+         * Every version has 60 keys, so it takes two pages of 50. The key "owner" has values on
+         * both pages, as a key with several values can: team-a and the oldest, team-0, on the
+         * first and team-b on the second. team-a is the newest for odd version numbers, team-b
+         * for even ones.
+         */
+        @Override
+        public QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(
+            final QuerySchemaVersionMetadataRequest request) {
+            return call(() -> {
+                final boolean firstPage = request.nextToken() == null;
+                final String schemaVersionId = request.schemaVersionId();
+                final boolean newestOnFirstPage =
+                    Long.parseLong(schemaVersionId.substring(schemaVersionId.lastIndexOf("-v") + 2)) % 2 == 1;
+                final Map<String, MetadataInfo> metadataInfoMap = new ConcurrentHashMap<>();
+                for (int key = firstPage ? 0 : 49; key < (firstPage ? 49 : 59); key++) {
+                    metadataInfoMap.put("key-" + key, MetadataInfo.builder().metadataValue("value").build());
+                }
+                metadataInfoMap.put("owner", firstPage
+                    ? MetadataInfo.builder()
+                        .metadataValue("team-a")
+                        .createdTime(newestOnFirstPage ? NEWER_TIME : OLDER_TIME)
+                        .otherMetadataValueList(OtherMetadataValueListItem.builder()
+                            .metadataValue("team-0")
+                            .createdTime(OLDEST_TIME)
+                            .build())
+                        .build()
+                    : MetadataInfo.builder()
+                        .metadataValue("team-b")
+                        .createdTime(newestOnFirstPage ? OLDER_TIME : NEWER_TIME)
+                        .build());
+                return QuerySchemaVersionMetadataResponse.builder()
+                    .schemaVersionId(schemaVersionId)
+                    .metadataInfoMap(metadataInfoMap)
+                    .nextToken(firstPage ? "50" : null)
+                    .build();
+            });
+        }
+
+        @Override
+        public GetTagsResponse getTags(final GetTagsRequest request) {
+            return call(() -> GetTagsResponse.builder().tags(Collections.emptyMap()).build());
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private <T> T call(final Supplier<T> response) {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                return response.get();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        private static String schemaName(final String schemaArn) {
+            return schemaArn.substring(schemaArn.lastIndexOf('/') + 1);
+        }
+    }
+}
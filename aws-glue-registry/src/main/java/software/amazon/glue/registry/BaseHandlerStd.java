@@ -7,6 +7,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -29,4 +35,14 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final ProxyClient<GlueClient> proxyClient,
             final Logger logger);
+
+    protected static Map<String, String> tagsFromModel(final List<Tag> tags) {
+        if (tags == null) {
+            return Collections.emptyMap();
+        }
+
+        return tags
+                .stream()
+                .collect(toMap(Tag::getKey, Tag::getValue));
+    }
 }
@@ -7,4 +7,18 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Schemas in the registry when Delete started, which sizes the time spent waiting for it.
+     */
+    private Long schemasToDelete;
+
+    /**
+     * Epoch milliseconds when DeleteRegistry was sent, from which the time left to wait is measured.
+     */
+    private Long deleteRequestedAt;
+
+    /**
+     * Last status seen while waiting for the delete.
+     */
+    private String registryStatus;
 }
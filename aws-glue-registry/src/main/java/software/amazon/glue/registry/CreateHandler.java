@@ -10,24 +10,15 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-
-import static java.util.stream.Collectors.toMap;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate(
@@ -37,7 +28,7 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createRegistry)
+                    .makeServiceCall((awsRequest, client) -> createRegistry(awsRequest, client, logger))
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(awsResponse -> ProgressEvent.defaultSuccessHandler(toResourceModel(awsResponse))
                     ));
@@ -45,7 +36,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateRegistryResponse createRegistry(
         CreateRegistryRequest createRegistryRequest,
-        ProxyClient<GlueClient> proxyClient) {
+        ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         CreateRegistryResponse createRegistryResponse = null;
         try {
@@ -85,13 +77,4 @@ public class CreateHandler extends BaseHandlerStd {
                 .description(createRegistryResponse.description())
                 .build();
     }
-
-    private Map<String, String> tagsFromModel(final List<Tag> tags) {
-        if (tags == null) {
-            return Collections.emptyMap();
-        }
-        return tags
-            .stream()
-            .collect(toMap(Tag::getKey, Tag::getValue));
-    }
 }
@@ -6,7 +6,11 @@ import software.amazon.awssdk.services.glue.model.DeleteRegistryRequest;
 import software.amazon.awssdk.services.glue.model.DeleteRegistryResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
@@ -14,21 +18,49 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(2L))
-            .build();
-
-    private Logger logger;
+    //Glue deletes the schemas of a registry along with it, so the polling budget of a delete grows
+    //with the number of schemas counted before it is sent. Small registries are polled every second,
+    //large ones less often. The longer a delete has been running, the longer it is likely to take,
+    //so the delay also grows to a tenth of the time since the delete was sent.
+    private static final long BASE_TIMEOUT_SECONDS = 120L;
+    private static final long TIMEOUT_SECONDS_PER_SCHEMA = 2L;
+    private static final long MAX_TIMEOUT_SECONDS = Duration.ofHours(2L).getSeconds();
+    private static final long SCHEMAS_PER_DELAY_SECOND = 100L;
+    private static final long MAX_DELAY_SECONDS = 15L;
+    private static final long ELAPSED_PER_DELAY = 10L;
+    //Beyond this many schemas the budget is at its maximum, so counting stops.
+    private static final long MAX_COUNTED_SCHEMAS =
+        (MAX_TIMEOUT_SECONDS - BASE_TIMEOUT_SECONDS) / TIMEOUT_SECONDS_PER_SCHEMA;
+    private static final int LIST_SCHEMAS_PAGE_SIZE = 100;
+
+    /**
+     * Unlike Constant, the budget is measured from when the delete was sent rather than counted
+     * in attempts, as the delays between attempts vary.
+     */
+    static Delay backoffDelay(final long schemas, final CallbackContext callbackContext, final Clock clock) {
+        final long timeoutSeconds =
+            Math.min(MAX_TIMEOUT_SECONDS, BASE_TIMEOUT_SECONDS + TIMEOUT_SECONDS_PER_SCHEMA * schemas);
+        final long minimumDelaySeconds = Math.min(MAX_DELAY_SECONDS, 1L + schemas / SCHEMAS_PER_DELAY_SECOND);
+
+        return attempt -> {
+            final Long deleteRequestedAt = callbackContext.getDeleteRequestedAt();
+            final long elapsedSeconds =
+                deleteRequestedAt == null ? 0L : Duration.ofMillis(clock.millis() - deleteRequestedAt).getSeconds();
+            if (elapsedSeconds >= timeoutSeconds) {
+                return Duration.ZERO;
+            }
+            return Duration.ofSeconds(
+                Math.min(MAX_DELAY_SECONDS, Math.max(minimumDelaySeconds, elapsedSeconds / ELAPSED_PER_DELAY)));
+        };
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -37,9 +69,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress -> countSchemas(proxyClient, progress, logger))
             .then(progress ->
                 proxy.initiate(
                     "AWS-Glue-Registry::Delete",
@@ -48,9 +79,12 @@ public class DeleteHandler extends BaseHandlerStd {
                     progress.getCallbackContext()
                 )
                     .translateToServiceRequest(this::fromResourceModel)
-                    .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteRegistry)
-                    .stabilize(this::isDeleteStabilized)
+                    .backoffDelay(backoffDelay(progress.getCallbackContext().getSchemasToDelete(),
+                        progress.getCallbackContext(), Clock.systemUTC()))
+                    .makeServiceCall((awsRequest, client) ->
+                        deleteRegistry(awsRequest, client, progress.getCallbackContext(), logger))
+                    .stabilize((awsRequest, awsResponse, client, model, context) ->
+                        isDeleteStabilized(awsRequest, awsResponse, client, model, context, logger))
                     .done(
                         awsResponse ->
                             ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -58,15 +92,73 @@ public class DeleteHandler extends BaseHandlerStd {
                                 .build()));
     }
 
+    /**
+     * Counts the schemas of the registry once, before it is deleted. The count only sizes the
+     * polling budget, so when it can't be taken the delete goes ahead with the smallest budget.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> countSchemas(
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Logger logger) {
+
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getSchemasToDelete() != null) {
+            return progress;
+        }
+
+        final String registryName = progress.getResourceModel().getName();
+        final GlueClient glueClient = proxyClient.client();
+        long schemas = 0;
+        String nextToken = null;
+        try {
+            do {
+                final ListSchemasRequest listSchemasRequest =
+                    ListSchemasRequest
+                        .builder()
+                        .registryId(RegistryId.builder().registryName(registryName).build())
+                        .maxResults(LIST_SCHEMAS_PAGE_SIZE)
+                        .nextToken(nextToken)
+                        .build();
+                final ListSchemasResponse listSchemasResponse =
+                    proxyClient.injectCredentialsAndInvokeV2(listSchemasRequest, glueClient::listSchemas);
+                schemas += listSchemasResponse.schemas().size();
+                nextToken = listSchemasResponse.nextToken();
+            } while (nextToken != null && schemas < MAX_COUNTED_SCHEMAS);
+        } catch (final AwsServiceException e) {
+            logger.log(
+                String.format(
+                    "%s [%s] schemas couldn't be counted, deleting with the smallest budget: %s",
+                    ResourceModel.TYPE_NAME,
+                    registryName,
+                    e.getMessage()
+                )
+            );
+        }
+
+        callbackContext.setSchemasToDelete(schemas);
+        return progress;
+    }
+
+    /**
+     * Deletion moves the registry to DELETING until it is gone. The delete response already
+     * reports DELETING, so the first check trusts it instead of polling straight away. After that,
+     * a poll that still finds the registry is progress and only its absence completes the delete.
+     */
     private Boolean isDeleteStabilized(
         final DeleteRegistryRequest deleteRegistryRequest,
         final DeleteRegistryResponse deleteRegistryResponse,
         final ProxyClient<GlueClient> proxyClient,
         final ResourceModel resourceModel,
-        final CallbackContext callbackContext
+        final CallbackContext callbackContext,
+        final Logger logger
     ) {
         final String registryName = deleteRegistryResponse.registryName();
 
+        if (callbackContext.getRegistryStatus() == null && deleteRegistryResponse.status() == RegistryStatus.DELETING) {
+            callbackContext.setRegistryStatus(deleteRegistryResponse.statusAsString());
+            return false;
+        }
+
         try {
             final GlueClient glueClient = proxyClient.client();
             final GetRegistryRequest getRegistryRequest =
@@ -80,9 +172,18 @@ public class DeleteHandler extends BaseHandlerStd {
                     )
                     .build();
 
-            proxyClient
+            final GetRegistryResponse getRegistryResponse = proxyClient
                 .injectCredentialsAndInvokeV2(getRegistryRequest, glueClient::getRegistry);
 
+            callbackContext.setRegistryStatus(getRegistryResponse.statusAsString());
+            logger.log(
+                String.format(
+                    "%s [%s] is %s.",
+                    ResourceModel.TYPE_NAME,
+                    registryName,
+                    getRegistryResponse.statusAsString()
+                )
+            );
             return false;
         } catch (EntityNotFoundException e) {
             logger.log(
@@ -105,7 +206,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteRegistryResponse deleteRegistry(
         final DeleteRegistryRequest deleteRegistryRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         DeleteRegistryResponse deleteRegistryResponse = null;
 
@@ -122,6 +225,7 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (final AwsServiceException e) {
             translateToCfnException(e, registryName);
         }
+        callbackContext.setDeleteRequestedAt(Clock.systemUTC().millis());
         logger.log(
             String.format(
                 "Requested to delete %s [%s].",
@@ -70,6 +70,8 @@ public class ListHandler extends BaseHandlerStd {
                     .builder()
                     .arn(registryItem.registryArn())
                     .name(registryItem.registryName())
+                    //Description is the only other model property ListRegistries returns.
+                    .description(registryItem.description())
                     .build())
             .collect(toList());
     }
@@ -14,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -23,8 +21,6 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate(
             "AWS-Glue-Registry::Read",
             proxyClient,
@@ -32,13 +28,14 @@ public class ReadHandler extends BaseHandlerStd {
             callbackContext)
 
             .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::getRegistry)
+            .makeServiceCall((awsRequest, client) -> getRegistry(awsRequest, client, logger))
             .done(awsResponse -> ProgressEvent.defaultSuccessHandler(toResourceModel(awsResponse)));
     }
 
     private GetRegistryResponse getRegistry(
         final GetRegistryRequest getRegistryRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         GetRegistryResponse getRegistryResponse = null;
         final String registryName = getRegistryRequest.registryId().registryName();
 
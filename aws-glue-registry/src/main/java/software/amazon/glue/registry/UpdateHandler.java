@@ -3,18 +3,28 @@ package software.amazon.glue.registry;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryRequest;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ReadHandler readHandler = new ReadHandler();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,27 +33,122 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate(
-                    "AWS-Glue-Registry::Update",
-                    proxyClient,
-                    progress.getResourceModel(),
-                    progress.getCallbackContext())
-
-                    .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::updateRegistry)
-                    //No stabilization required for Update.
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> true)
-                    .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        return ProgressEvent.progress(desiredModel, callbackContext)
+            .then(progress -> isDescriptionChanged(desiredModel, previousModel)
+                ? updateDescription(proxy, proxyClient, progress, logger)
+                : progress)
+            .then(progress -> updateTags(proxyClient, progress, previousModel, logger))
+            .then(progress -> toResourceModel(progress.getResourceModel(), previousModel)
+                .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                //Only read when neither the update response nor the previous state identify the registry.
+                .orElseGet(() -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> updateDescription(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Logger logger) {
+
+        return proxy.initiate(
+            "AWS-Glue-Registry::Update",
+            proxyClient,
+            progress.getResourceModel(),
+            progress.getCallbackContext())
+
+            .translateToServiceRequest(this::fromResourceModel)
+            .makeServiceCall((awsRequest, client) -> updateRegistry(awsRequest, client, logger))
+            //No stabilization required for Update.
+            .stabilize((awsRequest, awsResponse, client, model, context) -> true)
+            .done((awsRequest, awsResponse, client, model, context) -> {
+                if (awsResponse != null && awsResponse.registryArn() != null) {
+                    model.setArn(awsResponse.registryArn());
+                }
+                return ProgressEvent.progress(model, context);
+            });
+    }
+
+    /**
+     * Applies the difference between the previous and desired tags with at most
+     * one TagResource and one UntagResource call.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ResourceModel previousModel,
+        final Logger logger) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final Map<String, String> previousTags = tagsFromModel(previousModel != null ? previousModel.getTags() : null);
+        final Map<String, String> desiredTags = tagsFromModel(model.getTags());
+
+        final Map<String, String> tagsToAdd = desiredTags
+            .entrySet()
+            .stream()
+            .filter(tag -> !tag.getValue().equals(previousTags.get(tag.getKey())))
+            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final List<String> tagsToRemove = previousTags
+            .keySet()
+            .stream()
+            .filter(key -> !desiredTags.containsKey(key))
+            .collect(toList());
+
+        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            return progress;
+        }
+
+        final String arn = getArn(model, previousModel);
+        if (arn == null) {
+            throw new CfnInvalidRequestException(
+                String.format("%s [%s] Arn is required to update tags.", ResourceModel.TYPE_NAME, model.getName()));
+        }
+
+        final GlueClient glueClient = proxyClient.client();
+        try {
+            if (!tagsToRemove.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    UntagResourceRequest.builder().resourceArn(arn).tagsToRemove(tagsToRemove).build(),
+                    glueClient::untagResource);
+            }
+            if (!tagsToAdd.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    TagResourceRequest.builder().resourceArn(arn).tagsToAdd(tagsToAdd).build(),
+                    glueClient::tagResource);
+            }
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, model.getName());
+        }
+
+        logger.log(
+            String.format(
+                "%s [%s] tags updated, %d added or changed, %d removed.",
+                ResourceModel.TYPE_NAME,
+                model.getName(),
+                tagsToAdd.size(),
+                tagsToRemove.size()
+            ));
+        return progress;
+    }
+
+    private boolean isDescriptionChanged(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return previousModel == null
+            || !Objects.equals(desiredModel.getDescription(), previousModel.getDescription());
+    }
+
+    private String getArn(final ResourceModel model, final ResourceModel previousModel) {
+        if (model.getArn() != null) {
+            return model.getArn();
+        }
+        return previousModel != null ? previousModel.getArn() : null;
     }
 
     private UpdateRegistryResponse updateRegistry(
         final UpdateRegistryRequest awsRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         UpdateRegistryResponse updateRegistryResponse = null;
         GlueClient glueClient = proxyClient.client();
         try {
@@ -56,6 +161,27 @@ public class UpdateHandler extends BaseHandlerStd {
         return updateRegistryResponse;
     }
 
+    /**
+     * Description is the only mutable property and was just applied, so the updated
+     * model is complete once the registry name and ARN are known.
+     */
+    private Optional<ResourceModel> toResourceModel(
+        final ResourceModel model,
+        final ResourceModel previousModel) {
+        final String arn = getArn(model, previousModel);
+        if (arn == null || model.getName() == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+            ResourceModel
+                .builder()
+                .name(model.getName())
+                .arn(arn)
+                .description(model.getDescription())
+                .build());
+    }
+
     private UpdateRegistryRequest fromResourceModel(final ResourceModel model) {
         return UpdateRegistryRequest
             .builder()
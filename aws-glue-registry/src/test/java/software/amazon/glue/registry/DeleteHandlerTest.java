@@ -13,7 +13,11 @@ import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
 import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,11 +26,21 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +61,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
         glueClient = mock(GlueClient.class);
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new DeleteHandler();
+
+        //Every delete counts the schemas first, unless a test has them counted already.
+        lenient().when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(1, null));
     }
 
     @Test
@@ -126,6 +146,136 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Registry");
     }
 
+    @Test
+    public void handleRequest_WhenSchemasSpanPages_CountsEveryPage() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(100, TestData.NEXT_TOKEN));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST.toBuilder().nextToken(TestData.NEXT_TOKEN).build(),
+            glueClient::listSchemas)
+        ).thenReturn(TestData.listSchemasResponse(50, null));
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getSchemasToDelete()).isEqualTo(150L);
+    }
+
+    @Test
+    public void handleRequest_WhenSchemasWereCounted_DoesNotCountAgain() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setSchemasToDelete(3L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, never()).listSchemas(any(ListSchemasRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenSchemasCannotBeCounted_DeletesWithSmallestBudget() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST,
+            glueClient::listSchemas)
+        ).thenThrow(AccessDeniedException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getSchemasToDelete()).isEqualTo(0L);
+    }
+
+    @Test
+    public void handleRequest_WhenDeleteResponseIsDeleting_SkipsFirstPoll() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE.toBuilder().status(RegistryStatus.DELETING).build());
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE.toBuilder().status(RegistryStatus.DELETING).build())
+            .thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getRegistryStatus()).isEqualTo(RegistryStatus.DELETING.toString());
+        assertThat(callbackContext.getDeleteRequestedAt()).isNotNull();
+        verify(glueClient, times(2)).getRegistry(any(GetRegistryRequest.class));
+    }
+
+    @Test
+    public void backoffDelay_GrowsWithSchemaCountAndTimeSinceDelete() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteRequestedAt(0L);
+
+        assertThat(delayAfter(0, callbackContext, 0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delayAfter(0, callbackContext, 60)).isEqualTo(Duration.ofSeconds(6));
+        assertThat(delayAfter(0, callbackContext, 119)).isEqualTo(Duration.ofSeconds(11));
+        assertThat(delayAfter(0, callbackContext, 120)).isEqualTo(Duration.ZERO);
+
+        assertThat(delayAfter(1_000, callbackContext, 0)).isEqualTo(Duration.ofSeconds(11));
+        assertThat(delayAfter(1_000, callbackContext, 2_119)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(delayAfter(1_000, callbackContext, 2_120)).isEqualTo(Duration.ZERO);
+
+        //Capped at a two hour budget.
+        assertThat(delayAfter(100_000, callbackContext, 7_199)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(delayAfter(100_000, callbackContext, 7_200)).isEqualTo(Duration.ZERO);
+
+        //Before the delete is sent.
+        assertThat(delayAfter(0, new CallbackContext(), 7_200)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    private static Duration delayAfter(
+        final long schemas,
+        final CallbackContext callbackContext,
+        final long secondsSinceDelete) {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(secondsSinceDelete), ZoneOffset.UTC);
+        return DeleteHandler.backoffDelay(schemas, callbackContext, clock).nextDelay(1);
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
@@ -143,6 +293,17 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .registryArn(REGISTRY_ARN)
                 .build();
 
+        public final static String NEXT_TOKEN = "next-page";
+        public final static ListSchemasRequest LIST_SCHEMAS_REQUEST =
+            ListSchemasRequest.builder()
+                .registryId(
+                    RegistryId.builder()
+                        .registryName(REGISTRY_NAME)
+                        .build()
+                )
+                .maxResults(100)
+                .build();
+
         public final static GetRegistryRequest GET_REGISTRY_REQUEST =
             GetRegistryRequest.builder()
                 .registryId(
@@ -161,5 +322,15 @@ public class DeleteHandlerTest extends AbstractTestBase {
             GetRegistryResponse
                 .builder()
                 .build();
+
+        public static ListSchemasResponse listSchemasResponse(final int schemas, final String nextToken) {
+            return ListSchemasResponse.builder()
+                .schemas(
+                    IntStream.range(0, schemas)
+                        .mapToObj(i -> SchemaListItem.builder().schemaName("schema-" + i).build())
+                        .collect(Collectors.toList()))
+                .nextToken(nextToken)
+                .build();
+        }
     }
 }
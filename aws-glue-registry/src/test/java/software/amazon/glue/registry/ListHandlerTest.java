@@ -99,6 +99,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .build();
         private static final String REGISTRY_NAME = "Unit-testing-registry";
         private static final String REGISTRY_ARN = "registry:arn:123";
+        private static final String REGISTRY_DESCRIPTION = "Unit testing registry listing.";
 
         private static final String ANOTHER_REGISTRY_NAME = "Unit-testing-registry-2";
         private static final String ANOTHER_REGISTRY_ARN = "registry:arn:9232";
@@ -115,6 +116,7 @@ public class ListHandlerTest extends AbstractTestBase {
                 .builder()
                 .registryName(REGISTRY_NAME)
                 .registryArn(REGISTRY_ARN)
+                .description(REGISTRY_DESCRIPTION)
                 .status(RegistryStatus.AVAILABLE)
                 .createdTime(Instant.now().toString())
                 .updatedTime(Instant.now().toString())
@@ -124,6 +126,7 @@ public class ListHandlerTest extends AbstractTestBase {
             .builder()
             .name(REGISTRY_NAME)
             .arn(REGISTRY_ARN)
+            .description(REGISTRY_DESCRIPTION)
             .build();
 
         public final static ResourceModel RESOURCE_MODEL_2 = ResourceModel
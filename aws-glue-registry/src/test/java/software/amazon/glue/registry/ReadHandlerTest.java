@@ -1,5 +1,11 @@
 package software.amazon.glue.registry;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -112,6 +118,45 @@ public class ReadHandlerTest extends AbstractTestBase {
             .contains("Resource of type 'AWS::Glue::Registry' with identifier 'unit-test-registry' was not found.");
     }
 
+    @Test
+    public void handleRequest_WhenInvokedConcurrently_ReturnsEachRequestedRegistry() throws Exception {
+        final int registries = 32;
+        for (int i = 0; i < registries; i++) {
+            Mockito.when(
+                proxyClient.injectCredentialsAndInvokeV2(
+                    getRegistryRequest(TestData.REGISTRY_NAME + i), sdkClient::getRegistry))
+                .thenReturn(
+                    TestData.GET_REGISTRY_RESPONSE.toBuilder().registryName(TestData.REGISTRY_NAME + i).build());
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<ProgressEvent<ResourceModel, CallbackContext>>> futures = new ArrayList<>();
+            for (int i = 0; i < registries; i++) {
+                final ResourceHandlerRequest<ResourceModel> request =
+                    ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().name(TestData.REGISTRY_NAME + i).build())
+                        .build();
+                futures.add(executorService.submit(() ->
+                    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger)));
+            }
+
+            for (int i = 0; i < registries; i++) {
+                final ProgressEvent<ResourceModel, CallbackContext> response = futures.get(i).get();
+                assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                assertThat(response.getResourceModel().getName()).isEqualTo(TestData.REGISTRY_NAME + i);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static GetRegistryRequest getRegistryRequest(final String registryName) {
+        return GetRegistryRequest.builder()
+            .registryId(RegistryId.builder().registryName(registryName).build())
+            .build();
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_DESC = "Unit testing registry creation.";
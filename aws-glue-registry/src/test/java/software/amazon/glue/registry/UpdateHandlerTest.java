@@ -1,6 +1,7 @@
 package software.amazon.glue.registry;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,10 @@ import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceResponse;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryRequest;
 import software.amazon.awssdk.services.glue.model.UpdateRegistryResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -29,6 +34,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,11 +65,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
             glueClient::updateRegistry)
         ).thenReturn(TestData.UPDATE_REGISTRY_RESPONSE);
 
-        when(proxyClient.injectCredentialsAndInvokeV2(
-            TestData.GET_REGISTRY_REQUEST,
-            glueClient::getRegistry)
-        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
-
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
 
@@ -83,6 +84,84 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ReadsRegistry_WhenUpdateResponseIsIncomplete() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_REGISTRY_REQUEST,
+            glueClient::updateRegistry)
+        ).thenReturn(TestData.UPDATE_REGISTRY_RESPONSE_WITHOUT_ARN);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenReturn(TestData.GET_REGISTRY_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy, TestData.RESOURCE_HANDLER_REQUEST_WITHOUT_ARN, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expectedResourceModel = ResourceModel
+            .builder()
+            .name(TestData.REGISTRY_NAME)
+            .arn(TestData.REGISTRY_ARN)
+            .description(TestData.NEW_REGISTRY_DESC)
+            .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+    }
+
+    @Test
+    public void handleRequest_SkipsUpdateRegistry_WhenDescriptionIsUnchanged() {
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy, TestData.RESOURCE_HANDLER_REQUEST_WITHOUT_CHANGES, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expectedResourceModel = ResourceModel
+            .builder()
+            .name(TestData.REGISTRY_NAME)
+            .arn(TestData.REGISTRY_ARN)
+            .description(TestData.NEW_REGISTRY_DESC)
+            .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+        verifyZeroInteractions(glueClient);
+    }
+
+    @Test
+    public void handleRequest_AppliesOnlyTagDifferences_WhenTagsChange() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UNTAG_RESOURCE_REQUEST,
+            glueClient::untagResource)
+        ).thenReturn(UntagResourceResponse.builder().build());
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.TAG_RESOURCE_REQUEST,
+            glueClient::tagResource)
+        ).thenReturn(TagResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_TAGS_CHANGED, new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel expectedResourceModel = ResourceModel
+            .builder()
+            .name(TestData.REGISTRY_NAME)
+            .arn(TestData.REGISTRY_ARN)
+            .description(TestData.NEW_REGISTRY_DESC)
+            .build();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+    }
+
     @Test
     public void handleRequest_ThrowsException_WhenUpdateRegistryFails() {
 
@@ -125,6 +204,69 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(INPUT_RESOURCE_MODEL)
                 .build();
 
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITHOUT_CHANGES =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .description(NEW_REGISTRY_DESC)
+                        .build())
+                .previousResourceState(INPUT_RESOURCE_MODEL)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITHOUT_ARN =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .description(NEW_REGISTRY_DESC)
+                        .build())
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_TAGS_CHANGED =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .arn(REGISTRY_ARN)
+                        .description(NEW_REGISTRY_DESC)
+                        .tags(
+                            ImmutableList.of(
+                                new Tag("unchanged", "1"),
+                                new Tag("changed", "20"),
+                                new Tag("added", "4")))
+                        .build())
+                .previousResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .arn(REGISTRY_ARN)
+                        .description(NEW_REGISTRY_DESC)
+                        .tags(
+                            ImmutableList.of(
+                                new Tag("unchanged", "1"),
+                                new Tag("changed", "2"),
+                                new Tag("removed", "3")))
+                        .build())
+                .build();
+
+        public final static UntagResourceRequest UNTAG_RESOURCE_REQUEST =
+            UntagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToRemove("removed")
+                .build();
+
+        public final static TagResourceRequest TAG_RESOURCE_REQUEST =
+            TagResourceRequest
+                .builder()
+                .resourceArn(REGISTRY_ARN)
+                .tagsToAdd(ImmutableMap.of("changed", "20", "added", "4"))
+                .build();
+
         public final static UpdateRegistryRequest UPDATE_REGISTRY_REQUEST =
             UpdateRegistryRequest
                 .builder()
@@ -144,6 +286,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .registryArn(TestData.REGISTRY_ARN)
                 .build();
 
+        private final static UpdateRegistryResponse UPDATE_REGISTRY_RESPONSE_WITHOUT_ARN =
+            UpdateRegistryResponse
+                .builder()
+                .registryName(TestData.REGISTRY_NAME)
+                .build();
+
         public final static GetRegistryResponse GET_REGISTRY_RESPONSE =
             GetRegistryResponse
                 .builder()
@@ -9,6 +9,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.glue.schema.BaseHandler;
 import software.amazon.glue.schema.ResourceModel;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toMap;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends software.amazon.glue.schema.BaseHandler<CallbackContext> {
@@ -33,4 +39,14 @@ public abstract class BaseHandlerStd extends software.amazon.glue.schema.BaseHan
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger);
+
+    protected static Map<String, String> tagsFromModel(final List<Tag> tags) {
+        if (tags == null) {
+            return Collections.emptyMap();
+        }
+
+        return tags
+            .stream()
+            .collect(toMap(Tag::getKey, Tag::getValue));
+    }
 }
@@ -14,16 +14,12 @@ import software.amazon.glue.schema.Tag;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.Registry;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -31,8 +27,6 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate(
@@ -42,7 +36,7 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createSchema)
+                    .makeServiceCall((awsRequest, client) -> createSchema(awsRequest, client, logger))
                     //Stabilization not required for schema creation.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(createSchemaResponse ->
@@ -52,7 +46,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateSchemaResponse createSchema(
         final CreateSchemaRequest createSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         CreateSchemaResponse createSchemaResponse = null;
         final GlueClient glueClient = proxyClient.client();
@@ -134,14 +129,4 @@ public class CreateHandler extends BaseHandlerStd {
                 .map(entry -> new Tag(entry.getKey(), entry.getValue()))
                 .collect(toList());
     }
-
-    private Map<String, String> tagsFromModel(final List<Tag> tags) {
-        if (tags == null) {
-            return Collections.emptyMap();
-        }
-
-        return tags
-            .stream()
-            .collect(toMap(Tag::getKey, Tag::getValue));
-    }
 }
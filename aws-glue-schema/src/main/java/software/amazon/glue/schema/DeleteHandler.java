@@ -6,7 +6,9 @@ import software.amazon.awssdk.services.glue.model.DeleteSchemaRequest;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
@@ -14,22 +16,46 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.cloudformation.proxy.OperationStatus;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(2L))
-            .build();
-
-    private Logger logger;
+    //Glue deletes the versions of a schema along with it, so the polling budget of a delete grows
+    //with the number of versions looked up before it is sent. Schemas with few versions are polled
+    //every second, ones with many less often. The longer a delete has been running, the longer it is
+    //likely to take, so the delay also grows to a tenth of the time since the delete was sent.
+    private static final long BASE_TIMEOUT_SECONDS = 120L;
+    private static final long VERSIONS_PER_TIMEOUT_SECOND = 2L;
+    private static final long MAX_TIMEOUT_SECONDS = Duration.ofHours(2L).getSeconds();
+    private static final long VERSIONS_PER_DELAY_SECOND = 200L;
+    private static final long MAX_DELAY_SECONDS = 15L;
+    private static final long ELAPSED_PER_DELAY = 10L;
+
+    /**
+     * Unlike Constant, the budget is measured from when the delete was sent rather than counted
+     * in attempts, as the delays between attempts vary.
+     */
+    static Delay backoffDelay(final long schemaVersions, final CallbackContext callbackContext, final Clock clock) {
+        final long timeoutSeconds =
+            Math.min(MAX_TIMEOUT_SECONDS, BASE_TIMEOUT_SECONDS + schemaVersions / VERSIONS_PER_TIMEOUT_SECOND);
+        final long minimumDelaySeconds = Math.min(MAX_DELAY_SECONDS, 1L + schemaVersions / VERSIONS_PER_DELAY_SECOND);
+
+        return attempt -> {
+            final Long deleteRequestedAt = callbackContext.getDeleteRequestedAt();
+            final long elapsedSeconds =
+                deleteRequestedAt == null ? 0L : Duration.ofMillis(clock.millis() - deleteRequestedAt).getSeconds();
+            if (elapsedSeconds >= timeoutSeconds) {
+                return Duration.ZERO;
+            }
+            return Duration.ofSeconds(
+                Math.min(MAX_DELAY_SECONDS, Math.max(minimumDelaySeconds, elapsedSeconds / ELAPSED_PER_DELAY)));
+        };
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -38,16 +64,18 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress -> countSchemaVersions(proxyClient, progress, logger))
             .then(progress ->
                 proxy.initiate("AWS-Glue-Schema::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::fromResourceModel)
-                    .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchema)
-                    .stabilize(this::isDeleteStabilized)
+                    .backoffDelay(backoffDelay(progress.getCallbackContext().getSchemaVersionsToDelete(),
+                        progress.getCallbackContext(), Clock.systemUTC()))
+                    .makeServiceCall((awsRequest, client) ->
+                        deleteSchema(awsRequest, client, progress.getCallbackContext(), logger))
+                    .stabilize((awsRequest, awsResponse, client, model, context) ->
+                        isDeleteStabilized(awsRequest, awsResponse, client, model, context, logger))
                     .done(
                         awsResponse ->
                             ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -55,14 +83,69 @@ public class DeleteHandler extends BaseHandlerStd {
                                 .build()));
     }
 
+    /**
+     * Looks up the number of versions of the schema once, before it is deleted. The number only
+     * sizes the polling budget, so when it can't be looked up the delete goes ahead with the
+     * smallest budget.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> countSchemaVersions(
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Logger logger) {
+
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getSchemaVersionsToDelete() != null) {
+            return progress;
+        }
+
+        final String schemaArn = progress.getResourceModel().getArn();
+        long schemaVersions = 0;
+        try {
+            final GetSchemaRequest getSchemaRequest =
+                GetSchemaRequest
+                    .builder()
+                    .schemaId(SchemaId.builder().schemaArn(schemaArn).build())
+                    .build();
+            final GetSchemaResponse getSchemaResponse =
+                proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, proxyClient.client()::getSchema);
+            //Version numbers are never reused, so the latest one bounds the number of versions.
+            if (getSchemaResponse.latestSchemaVersion() != null) {
+                schemaVersions = getSchemaResponse.latestSchemaVersion();
+            }
+        } catch (final AwsServiceException e) {
+            logger.log(
+                String.format(
+                    "%s [%s] versions couldn't be counted, deleting with the smallest budget: %s",
+                    ResourceModel.TYPE_NAME,
+                    schemaArn,
+                    e.getMessage()
+                )
+            );
+        }
+
+        callbackContext.setSchemaVersionsToDelete(schemaVersions);
+        return progress;
+    }
+
+    /**
+     * Deletion moves the schema to DELETING until it is gone. The delete response already
+     * reports DELETING, so the first check trusts it instead of polling straight away. After that,
+     * a poll that still finds the schema is progress and only its absence completes the delete.
+     */
     private Boolean isDeleteStabilized(
         final DeleteSchemaRequest deleteSchemaRequest,
         final DeleteSchemaResponse deleteSchemaResponse,
         final ProxyClient<GlueClient> proxyClient,
         final ResourceModel resourceModel,
-        final CallbackContext callbackContext) {
+        final CallbackContext callbackContext,
+        final Logger logger) {
         final String schemaArn = deleteSchemaResponse.schemaArn();
 
+        if (callbackContext.getSchemaStatus() == null && deleteSchemaResponse.status() == SchemaStatus.DELETING) {
+            callbackContext.setSchemaStatus(deleteSchemaResponse.statusAsString());
+            return false;
+        }
+
         try {
             final GlueClient glueClient = proxyClient.client();
             final GetSchemaRequest getSchemaRequest =
@@ -76,9 +159,18 @@ public class DeleteHandler extends BaseHandlerStd {
                     )
                     .build();
 
-            proxyClient
+            final GetSchemaResponse getSchemaResponse = proxyClient
                 .injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
 
+            callbackContext.setSchemaStatus(getSchemaResponse.schemaStatusAsString());
+            logger.log(
+                String.format(
+                    "%s [%s] is %s.",
+                    ResourceModel.TYPE_NAME,
+                    schemaArn,
+                    getSchemaResponse.schemaStatusAsString()
+                )
+            );
             return false;
         } catch (EntityNotFoundException e) {
             logger.log(
@@ -101,7 +193,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteSchemaResponse deleteSchema(
         final DeleteSchemaRequest deleteSchemaRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         DeleteSchemaResponse deleteSchemaResponse = null;
         final GlueClient glueClient = client.client();
@@ -114,6 +208,7 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
+        callbackContext.setDeleteRequestedAt(Clock.systemUTC().millis());
 
         logger.log(
             String.format(
@@ -60,6 +60,8 @@ public class ListHandler extends BaseHandlerStd {
         final ResourceHandlerRequest<ResourceModel> request) {
         final String nextToken = request.getNextToken();
 
+        //Without a registryId ListSchemas already pages through the schemas of every registry
+        //in the account, so no per registry fan-out is needed for account wide listing.
         RegistryId registryId = null;
         final Registry registry = request.getDesiredResourceState().getRegistry();
 
@@ -85,12 +87,24 @@ public class ListHandler extends BaseHandlerStd {
         final List<SchemaListItem> schemaListItems = listSchemasResponse.schemas();
 
         return schemaListItems.stream()
-            .map(schemaListItem ->
-                ResourceModel
-                    .builder()
-                    .arn(schemaListItem.schemaArn())
-                    .name(schemaListItem.schemaName())
-                    .build())
+            .map(this::toResourceModel)
             .collect(toList());
     }
+
+    /**
+     * Carries over every list item field the resource model has, so callers don't need
+     * a Read per schema for them. Status and timestamps have no model property.
+     */
+    private ResourceModel toResourceModel(final SchemaListItem schemaListItem) {
+        return ResourceModel
+            .builder()
+            .arn(schemaListItem.schemaArn())
+            .name(schemaListItem.schemaName())
+            .description(schemaListItem.description())
+            .registry(
+                schemaListItem.registryName() == null
+                    ? null
+                    : Registry.builder().name(schemaListItem.registryName()).build())
+            .build();
+    }
 }
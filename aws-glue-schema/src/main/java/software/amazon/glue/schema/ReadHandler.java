@@ -18,8 +18,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -27,8 +25,6 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate(
             "AWS-Glue-Schema::Read",
             proxyClient,
@@ -36,27 +32,46 @@ public class ReadHandler extends BaseHandlerStd {
             callbackContext)
             .translateToServiceRequest(this::fromResourceModel)
 
-            .makeServiceCall(this::getSchemaResponseModel)
+            .makeServiceCall((awsRequest, client) -> getSchemaResponseModel(awsRequest, null, client, logger))
             .done(responseModel -> ProgressEvent.defaultSuccessHandler(responseModel));
     }
 
+    /**
+     * The initial schema version never changes once the schema is created, so a caller that
+     * already knows its id can pass it to skip the GetSchemaVersion call.
+     */
+    ResourceModel readResourceModel(
+        final ResourceModel model,
+        final String initialSchemaVersionId,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        return getSchemaResponseModel(fromResourceModel(model), initialSchemaVersionId, proxyClient, logger);
+    }
+
     private ResourceModel getSchemaResponseModel(
         final GetSchemaRequest getSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final String knownInitialSchemaVersionId,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         GetSchemaResponse getSchemaResponse = null;
-        GetSchemaVersionResponse getSchemaVersionResponse = null;
+        String initialSchemaVersionId = knownInitialSchemaVersionId;
         final String identifier = getSchemaRequest.schemaId().toString();
 
         try {
             final GlueClient glueClient = proxyClient.client();
 
             getSchemaResponse = proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
-            GetSchemaVersionRequest getSchemaVersionRequest = getInitialSchemaVersionRequest(getSchemaResponse.schemaArn());
 
-            getSchemaVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getSchemaVersionRequest,
-                glueClient::getSchemaVersion);
+            if (initialSchemaVersionId == null) {
+                GetSchemaVersionRequest getSchemaVersionRequest =
+                    getInitialSchemaVersionRequest(getSchemaResponse.schemaArn());
+
+                final GetSchemaVersionResponse getSchemaVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
+                    getSchemaVersionRequest,
+                    glueClient::getSchemaVersion);
+                initialSchemaVersionId = getSchemaVersionResponse.schemaVersionId();
+            }
 
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
@@ -69,7 +84,7 @@ public class ReadHandler extends BaseHandlerStd {
                 identifier
             )
         );
-        return toResourceModel(getSchemaResponse, getSchemaVersionResponse.schemaVersionId());
+        return toResourceModel(getSchemaResponse, initialSchemaVersionId);
     }
 
     private GetSchemaVersionRequest getInitialSchemaVersionRequest(
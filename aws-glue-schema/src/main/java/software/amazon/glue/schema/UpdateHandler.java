@@ -4,8 +4,11 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,10 +17,16 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.SchemaVersion;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
+    private final ReadHandler readHandler = new ReadHandler();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -26,27 +35,98 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        final ResourceModel desiredModel = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+
+        final boolean isSchemaUnchanged = isUnchanged(desiredModel, previousModel);
 
-        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress ->
-                proxy.initiate(
+        return ProgressEvent.progress(desiredModel, callbackContext)
+            .then(progress -> isSchemaUnchanged
+                ? progress
+                : proxy.initiate(
                     "AWS-Glue-Schema::Update::first",
                     proxyClient,
                     progress.getResourceModel(),
                     progress.getCallbackContext())
 
-                    .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::updateSchema)
+                    .translateToServiceRequest(model -> fromResourceModel(model, previousModel))
+                    .makeServiceCall((awsRequest, client) -> updateSchema(awsRequest, client, logger))
                     //Stabilization is not required for Schema Update.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> updateTags(proxyClient, progress, previousModel, logger))
+            .then(progress -> isSchemaUnchanged
+                ? ProgressEvent.defaultSuccessHandler(
+                    readUnchangedResourceModel(desiredModel, previousModel, proxyClient, logger))
+                : readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    /**
+     * Applies the difference between the previous and desired tags with at most
+     * one TagResource and one UntagResource call.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateTags(
+        final ProxyClient<GlueClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ResourceModel previousModel,
+        final Logger logger) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final Map<String, String> previousTags = tagsFromModel(previousModel != null ? previousModel.getTags() : null);
+        final Map<String, String> desiredTags = tagsFromModel(model.getTags());
+
+        final Map<String, String> tagsToAdd = desiredTags
+            .entrySet()
+            .stream()
+            .filter(tag -> !tag.getValue().equals(previousTags.get(tag.getKey())))
+            .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final List<String> tagsToRemove = previousTags
+            .keySet()
+            .stream()
+            .filter(key -> !desiredTags.containsKey(key))
+            .collect(toList());
+
+        if (tagsToAdd.isEmpty() && tagsToRemove.isEmpty()) {
+            return progress;
+        }
+
+        final String arn = getArn(model, previousModel);
+        if (arn == null) {
+            throw new CfnInvalidRequestException(
+                String.format("%s [%s] Arn is required to update tags.", ResourceModel.TYPE_NAME, model.getName()));
+        }
+
+        final GlueClient glueClient = proxyClient.client();
+        try {
+            if (!tagsToRemove.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    UntagResourceRequest.builder().resourceArn(arn).tagsToRemove(tagsToRemove).build(),
+                    glueClient::untagResource);
+            }
+            if (!tagsToAdd.isEmpty()) {
+                proxyClient.injectCredentialsAndInvokeV2(
+                    TagResourceRequest.builder().resourceArn(arn).tagsToAdd(tagsToAdd).build(),
+                    glueClient::tagResource);
+            }
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, arn);
+        }
+
+        logger.log(
+            String.format(
+                "%s [%s] tags updated, %d added or changed, %d removed.",
+                ResourceModel.TYPE_NAME,
+                arn,
+                tagsToAdd.size(),
+                tagsToRemove.size()
+            ));
+        return progress;
     }
 
     private UpdateSchemaResponse updateSchema(
         final UpdateSchemaRequest updateSchemaRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
         final GlueClient glueClient = proxyClient.client();
 
         UpdateSchemaResponse updateSchemaResponse = null;
@@ -68,25 +148,59 @@ public class UpdateHandler extends BaseHandlerStd {
 
     }
 
-    private UpdateSchemaRequest fromResourceModel(ResourceModel resourceModel) {
-        final SchemaVersion schemaVersion = resourceModel.getCheckpointVersion();
-        final Boolean isLatestVersion = schemaVersion != null ? schemaVersion.getIsLatest() : null;
-
-        //JSON schema doesn't support Long.
-        final Integer versionNumberInt = schemaVersion != null ? schemaVersion.getVersionNumber() : null;
-        final Long versionNumberLong = versionNumberInt != null ? Long.valueOf(versionNumberInt) : null;
+    /**
+     * Description, Compatibility and CheckpointVersion are the only properties updated through UpdateSchema.
+     */
+    private boolean isUnchanged(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return previousModel != null
+            && previousModel.getArn() != null
+            && !isDescriptionChanged(desiredModel, previousModel)
+            && !isCompatibilityChanged(desiredModel, previousModel);
+    }
 
-        SchemaVersionNumber schemaVersionNumber = null;
-        if (isLatestVersion != null || versionNumberLong != null) {
-            schemaVersionNumber =
-                SchemaVersionNumber
-                    .builder()
-                    .versionNumber(versionNumberLong)
-                    .latestVersion(isLatestVersion)
-                    .build();
+    private String getArn(final ResourceModel model, final ResourceModel previousModel) {
+        if (model.getArn() != null) {
+            return model.getArn();
         }
+        return previousModel != null ? previousModel.getArn() : null;
+    }
 
-        return
+    private boolean isDescriptionChanged(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return previousModel == null
+            || !Objects.equals(desiredModel.getDescription(), previousModel.getDescription());
+    }
+
+    private boolean isCompatibilityChanged(final ResourceModel desiredModel, final ResourceModel previousModel) {
+        return previousModel == null
+            || !Objects.equals(desiredModel.getCompatibility(), previousModel.getCompatibility())
+            || !Objects.equals(desiredModel.getCheckpointVersion(), previousModel.getCheckpointVersion());
+    }
+
+    /**
+     * Nothing was updated, so UpdateSchema is skipped, but the model is still read back the
+     * same way Read builds it so that the returned state never drifts from a later Read.
+     * InitialSchemaVersionId is create only, so it is taken from the previous state.
+     */
+    private ResourceModel readUnchangedResourceModel(
+        final ResourceModel desiredModel,
+        final ResourceModel previousModel,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        return readHandler.readResourceModel(
+            ResourceModel.builder().arn(getArn(desiredModel, previousModel)).build(),
+            previousModel.getInitialSchemaVersionId(),
+            proxyClient,
+            logger);
+    }
+
+    /**
+     * Only the properties that differ from the previous state are sent.
+     * Without a previous state all updatable properties are sent.
+     */
+    private UpdateSchemaRequest fromResourceModel(
+        final ResourceModel resourceModel,
+        final ResourceModel previousModel) {
+        final UpdateSchemaRequest.Builder updateSchemaRequest =
             UpdateSchemaRequest
                 .builder()
                 .schemaId(
@@ -94,10 +208,39 @@ public class UpdateHandler extends BaseHandlerStd {
                         .builder()
                         .schemaArn(resourceModel.getArn())
                         .build()
-                )
+                );
+
+        if (isDescriptionChanged(resourceModel, previousModel)) {
+            updateSchemaRequest.description(resourceModel.getDescription());
+        }
+
+        //Compatibility is applied at the checkpoint version, so both are sent together.
+        if (isCompatibilityChanged(resourceModel, previousModel)) {
+            updateSchemaRequest
                 .compatibility(resourceModel.getCompatibility())
-                .description(resourceModel.getDescription())
-                .schemaVersionNumber(schemaVersionNumber)
+                .schemaVersionNumber(toSchemaVersionNumber(resourceModel));
+        }
+
+        return updateSchemaRequest.build();
+    }
+
+    private SchemaVersionNumber toSchemaVersionNumber(final ResourceModel resourceModel) {
+        final SchemaVersion schemaVersion = resourceModel.getCheckpointVersion();
+        final Boolean isLatestVersion = schemaVersion != null ? schemaVersion.getIsLatest() : null;
+
+        //JSON schema doesn't support Long.
+        final Integer versionNumberInt = schemaVersion != null ? schemaVersion.getVersionNumber() : null;
+        final Long versionNumberLong = versionNumberInt != null ? Long.valueOf(versionNumberInt) : null;
+
+        if (isLatestVersion == null && versionNumberLong == null) {
+            return null;
+        }
+
+        return
+            SchemaVersionNumber
+                .builder()
+                .versionNumber(versionNumberLong)
+                .latestVersion(isLatestVersion)
                 .build();
     }
 }
@@ -1,6 +1,9 @@
 package software.amazon.glue.schema;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
@@ -27,7 +30,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +55,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
         glueClient = mock(GlueClient.class);
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new DeleteHandler();
+
+        //Every delete looks the schema up first, unless a test stubs it otherwise.
+        lenient().when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
     }
 
     @Test
@@ -127,6 +140,108 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Schema");
     }
 
+    @Test
+    public void handleRequest_WhenSchemaHasVersions_CountsThemBeforeDeleting() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(
+            TestData.GET_SCHEMA_RESPONSE.toBuilder().latestSchemaVersion(150L).build(),
+            TestData.GET_SCHEMA_RESPONSE
+        ).thenThrow(EntityNotFoundException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getSchemaVersionsToDelete()).isEqualTo(150L);
+    }
+
+    @Test
+    public void handleRequest_WhenVersionsWereCounted_DoesNotCountAgain() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenThrow(EntityNotFoundException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setSchemaVersionsToDelete(3L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        //Only the stabilization poll.
+        verify(glueClient, times(1)).getSchema(any(GetSchemaRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenDeleteResponseIsDeleting_SkipsFirstPoll() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        ).thenReturn(
+            TestData.GET_SCHEMA_RESPONSE,
+            TestData.GET_SCHEMA_RESPONSE.toBuilder().schemaStatus(SchemaStatus.DELETING).build()
+        ).thenThrow(EntityNotFoundException.class);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getSchemaStatus()).isEqualTo(SchemaStatus.DELETING.toString());
+        assertThat(callbackContext.getDeleteRequestedAt()).isNotNull();
+        //The version count, then two polls.
+        verify(glueClient, times(3)).getSchema(any(GetSchemaRequest.class));
+    }
+
+    @Test
+    public void backoffDelay_GrowsWithSchemaVersionCountAndTimeSinceDelete() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setDeleteRequestedAt(0L);
+
+        assertThat(delayAfter(1, callbackContext, 0)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(delayAfter(1, callbackContext, 60)).isEqualTo(Duration.ofSeconds(6));
+        assertThat(delayAfter(1, callbackContext, 119)).isEqualTo(Duration.ofSeconds(11));
+        assertThat(delayAfter(1, callbackContext, 120)).isEqualTo(Duration.ZERO);
+
+        assertThat(delayAfter(1_000, callbackContext, 0)).isEqualTo(Duration.ofSeconds(6));
+        assertThat(delayAfter(1_000, callbackContext, 619)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(delayAfter(1_000, callbackContext, 620)).isEqualTo(Duration.ZERO);
+
+        //Capped at a two hour budget.
+        assertThat(delayAfter(100_000, callbackContext, 7_199)).isEqualTo(Duration.ofSeconds(15));
+        assertThat(delayAfter(100_000, callbackContext, 7_200)).isEqualTo(Duration.ZERO);
+
+        //Before the delete is sent.
+        assertThat(delayAfter(1, new CallbackContext(), 7_200)).isEqualTo(Duration.ofSeconds(1));
+    }
+
+    private static Duration delayAfter(
+        final long schemaVersions,
+        final CallbackContext callbackContext,
+        final long secondsSinceDelete) {
+        final Clock clock = Clock.fixed(Instant.ofEpochSecond(secondsSinceDelete), ZoneOffset.UTC);
+        return DeleteHandler.backoffDelay(schemaVersions, callbackContext, clock).nextDelay(1);
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
@@ -118,6 +118,23 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WhenInvokedWithNoRegistry_ReturnsSchemasOfEveryRegistry() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST_WITH_NO_REGISTRY, glueClient::listSchemas))
+            .thenReturn(TestData.CROSS_REGISTRY_LIST_SCHEMAS_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_NO_REGISTRY, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+            .extracting(model -> model.getRegistry().getName())
+            .containsExactly(TestData.REGISTRY_NAME, TestData.ANOTHER_REGISTRY_NAME);
+        assertThat(response.getNextToken()).isNull();
+    }
+
     @Test
     public void handleRequest_WhenListRegistriesFails_ThrowsException() {
 
@@ -141,7 +158,10 @@ public class ListHandlerTest extends AbstractTestBase {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
 
+        public final static String ANOTHER_REGISTRY_NAME = "unit-test-registry-2";
+
         public final static String SCHEMA_NAME = "unit-test-schema";
+        public final static String SCHEMA_DESCRIPTION = "Unit testing schema listing.";
         public final static String ANOTHER_SCHEMA_NAME = "unit-test-schema-2";
 
         private static final String SCHEMA_ARN =
@@ -239,6 +259,13 @@ public class ListHandlerTest extends AbstractTestBase {
                 .builder()
                 .name(SCHEMA_NAME)
                 .arn(SCHEMA_ARN)
+                .description(SCHEMA_DESCRIPTION)
+                .registry(
+                    software.amazon.glue.schema.Registry
+                        .builder()
+                        .name(REGISTRY_NAME)
+                        .build()
+                )
                 .build();
 
         private static final ResourceModel RESOURCE_MODEL_2 =
@@ -256,6 +283,8 @@ public class ListHandlerTest extends AbstractTestBase {
                 .builder()
                 .schemaName(SCHEMA_NAME)
                 .schemaArn(SCHEMA_ARN)
+                .registryName(REGISTRY_NAME)
+                .description(SCHEMA_DESCRIPTION)
                 .schemaStatus(SchemaStatus.AVAILABLE)
                 .createdTime(CREATED_TIME)
                 .updatedTime(UPDATED_TIME)
@@ -273,6 +302,13 @@ public class ListHandlerTest extends AbstractTestBase {
 
         private static final List<SchemaListItem> SCHEMAS = ImmutableList.of(SCHEMA_LIST_ITEM_1, SCHEMA_LIST_ITEM_2);
 
+        public final static ListSchemasResponse CROSS_REGISTRY_LIST_SCHEMAS_RESPONSE = ListSchemasResponse
+            .builder()
+            .schemas(
+                SCHEMA_LIST_ITEM_1,
+                SCHEMA_LIST_ITEM_2.toBuilder().registryName(ANOTHER_REGISTRY_NAME).build())
+            .build();
+
         public final static ListSchemasResponse LIST_SCHEMAS_RESPONSE = ListSchemasResponse
             .builder()
             .nextToken(TestData.ANOTHER_NEXT_TOKEN)
@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.Compatibility;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
@@ -10,6 +11,10 @@ import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceResponse;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.UpdateSchemaResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -28,9 +33,14 @@ import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.SchemaVersion;
 import software.amazon.glue.schema.Registry;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -189,6 +199,97 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_whenOnlyDescriptionChanged_UpdatesOnlyDescription() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_SCHEMA_REQUEST_TO_UPDATE_DESCRIPTION,
+            glueClient::updateSchema)
+        ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE_WITH_DESC_UPDATED);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITH_DESCRIPTION_CHANGED,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESOURCE_MODEL_WITH_DESC_UPDATED);
+    }
+
+    @Test
+    public void handleRequest_whenNothingChanged_OnlyReadsSchema() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITHOUT_CHANGES,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESOURCE_MODEL);
+        verify(glueClient, never()).updateSchema(any(UpdateSchemaRequest.class));
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+        verify(glueClient, never()).tagResource(any(TagResourceRequest.class));
+        verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_whenOnlyTagsChanged_AppliesOnlyTagDifferences() {
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UNTAG_RESOURCE_REQUEST,
+            glueClient::untagResource)
+        ).thenReturn(UntagResourceResponse.builder().build());
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.TAG_RESOURCE_REQUEST,
+            glueClient::tagResource)
+        ).thenReturn(TagResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITH_TAGS_CHANGED,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TestData.SCHEMA_ARN);
+        assertThat(response.getResourceModel().getTags()).isNull();
+    }
+
     @Test
     public void handleRequest_whenUpdateSchemaFails_ThrowsException() {
 
@@ -279,6 +380,108 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .compatibility(COMPATIBILITY)
                 .build();
 
+        public final static ResourceModel PREVIOUS_RESOURCE_MODEL =
+            ResourceModel
+                .builder()
+                .name(SCHEMA_NAME)
+                .arn(SCHEMA_ARN)
+                .initialSchemaVersionId(SCHEMA_VERSION_ID)
+                .description(SCHEMA_DESC)
+                .checkpointVersion(
+                    SchemaVersion
+                        .builder()
+                        .isLatest(true)
+                        .build()
+                )
+                .compatibility(COMPATIBILITY)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITHOUT_CHANGES =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(SCHEMA_NAME)
+                        .description(SCHEMA_DESC)
+                        .schemaDefinition("{}")
+                        .checkpointVersion(
+                            SchemaVersion
+                                .builder()
+                                .isLatest(true)
+                                .build()
+                        )
+                        .compatibility(COMPATIBILITY)
+                        .build())
+                .previousResourceState(PREVIOUS_RESOURCE_MODEL)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_DESCRIPTION_CHANGED =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(SCHEMA_NAME)
+                        .arn(SCHEMA_ARN)
+                        .description(NEW_SCHEMA_DESC)
+                        .checkpointVersion(
+                            SchemaVersion
+                                .builder()
+                                .isLatest(true)
+                                .build()
+                        )
+                        .compatibility(COMPATIBILITY)
+                        .build())
+                .previousResourceState(PREVIOUS_RESOURCE_MODEL)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_TAGS_CHANGED =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(SCHEMA_NAME)
+                        .arn(SCHEMA_ARN)
+                        .description(SCHEMA_DESC)
+                        .checkpointVersion(
+                            SchemaVersion
+                                .builder()
+                                .isLatest(true)
+                                .build()
+                        )
+                        .compatibility(COMPATIBILITY)
+                        .tags(Arrays.asList(new Tag("unchanged", "1"), new Tag("changed", "20"), new Tag("added", "4")))
+                        .build())
+                .previousResourceState(
+                    ResourceModel
+                        .builder()
+                        .name(SCHEMA_NAME)
+                        .arn(SCHEMA_ARN)
+                        .description(SCHEMA_DESC)
+                        .checkpointVersion(
+                            SchemaVersion
+                                .builder()
+                                .isLatest(true)
+                                .build()
+                        )
+                        .compatibility(COMPATIBILITY)
+                        .tags(Arrays.asList(new Tag("unchanged", "1"), new Tag("changed", "2"), new Tag("removed", "3")))
+                        .build())
+                .build();
+
+        public final static UntagResourceRequest UNTAG_RESOURCE_REQUEST =
+            UntagResourceRequest
+                .builder()
+                .resourceArn(SCHEMA_ARN)
+                .tagsToRemove("removed")
+                .build();
+
+        public final static TagResourceRequest TAG_RESOURCE_REQUEST =
+            TagResourceRequest
+                .builder()
+                .resourceArn(SCHEMA_ARN)
+                .tagsToAdd(ImmutableMap.of("changed", "20", "added", "4"))
+                .build();
+
         public static final GetSchemaRequest GET_SCHEMA_REQUEST_WITH_REGISTRY =
             GetSchemaRequest
                 .builder()
@@ -10,6 +10,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    //Shared across warm invocations of all handlers in this runtime.
+    protected static final SchemaDefinitionCache SCHEMA_DEFINITIONS =
+        new SchemaDefinitionCache(
+            SchemaDefinitionCache.DEFAULT_MAX_WEIGHT_BYTES,
+            new CompressedDefinitionStore(
+                CompressedDefinitionStore.DEFAULT_MAX_COMPRESSED_BYTES,
+                SchemaDefinitionDiskStore.openInLambdaTmp()));
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -7,4 +7,14 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * VersionId returned by RegisterSchemaVersion.
+     * Once set, re-invocations skip registration and resume stabilization.
+     */
+    private String schemaVersionId;
+
+    /**
+     * Last observed status of the registered schema version.
+     */
+    private String schemaVersionStatus;
 }
@@ -0,0 +1,197 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Schema version tier that keeps versions deflate compressed in direct buffers, outside the
+ * heap and out of the way of the garbage collector. Versions are only deflated when the heap
+ * evicts them and only inflated when the heap takes them back. The compressed bytes are bounded
+ * by a budget; the least recently stored versions beyond it are moved to an optional lower tier,
+ * which is also consulted on a miss.
+ */
+final class CompressedDefinitionStore implements SchemaDefinitionTier {
+    //Direct buffers come out of the 256 MB the function runs in, next to the heap the SDK and
+    //Jackson need, and count against MaxDirectMemorySize. Avro and JSON definitions deflate to
+    //about a tenth, so 8 MiB still holds roughly 80 MiB of definitions, many times the heap tier.
+    static final long DEFAULT_MAX_COMPRESSED_BYTES = 8L * 1024 * 1024;
+
+    private final long maxCompressedBytes;
+    private final SchemaDefinitionTier lowerTier;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long compressedBytes;
+    private long uncompressedBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    CompressedDefinitionStore(final long maxCompressedBytes, final SchemaDefinitionTier lowerTier) {
+        this.maxCompressedBytes = maxCompressedBytes;
+        this.lowerTier = lowerTier;
+    }
+
+    @Override
+    public GetSchemaVersionResponse take(final String schemaVersionId) {
+        if (schemaVersionId == null) {
+            return null;
+        }
+        final Entry entry;
+        synchronized (this) {
+            entry = entries.remove(schemaVersionId);
+            if (entry != null) {
+                release(entry);
+            }
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry.decode();
+        }
+
+        misses.increment();
+        return lowerTier == null ? null : lowerTier.take(schemaVersionId);
+    }
+
+    @Override
+    public void put(final GetSchemaVersionResponse schemaVersion) {
+        if (schemaVersion == null || schemaVersion.schemaVersionId() == null) {
+            return;
+        }
+        final byte[] encoded = SchemaVersionCodec.encode(schemaVersion);
+        final Entry entry = new Entry(deflate(encoded), encoded.length);
+        if (entry.compressed.capacity() > maxCompressedBytes) {
+            if (lowerTier != null) {
+                lowerTier.put(schemaVersion);
+            }
+            return;
+        }
+
+        final List<Entry> evicted = new ArrayList<>();
+        synchronized (this) {
+            final Entry previous = entries.put(schemaVersion.schemaVersionId(), entry);
+            if (previous != null) {
+                release(previous);
+            }
+            compressedBytes += entry.compressed.capacity();
+            uncompressedBytes += entry.uncompressedLength;
+
+            final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (compressedBytes > maxCompressedBytes && eldest.hasNext()) {
+                final Entry eldestEntry = eldest.next().getValue();
+                release(eldestEntry);
+                eldest.remove();
+                evicted.add(eldestEntry);
+                evictions.increment();
+            }
+        }
+        if (lowerTier != null) {
+            evicted.forEach(evictedEntry -> lowerTier.put(evictedEntry.decode()));
+        }
+    }
+
+    @Override
+    public void invalidate(final String schemaVersionId) {
+        synchronized (this) {
+            final Entry removed = schemaVersionId == null ? null : entries.remove(schemaVersionId);
+            if (removed != null) {
+                release(removed);
+            }
+        }
+        if (lowerTier != null && schemaVersionId != null) {
+            lowerTier.invalidate(schemaVersionId);
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    synchronized long getUncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    private void release(final Entry entry) {
+        compressedBytes -= entry.compressed.capacity();
+        uncompressedBytes -= entry.uncompressedLength;
+    }
+
+    private static ByteBuffer deflate(final byte[] encoded) {
+        final Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(encoded);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, encoded.length / 4));
+            final byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            final byte[] compressed = out.toByteArray();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(compressed.length);
+            buffer.put(compressed);
+            buffer.flip();
+            return buffer;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final ByteBuffer compressed, final int uncompressedLength) {
+        final byte[] input = new byte[compressed.remaining()];
+        compressed.get(input);
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            final byte[] encoded = new byte[uncompressedLength];
+            int inflated = 0;
+            while (inflated < uncompressedLength && !inflater.finished()) {
+                inflated += inflater.inflate(encoded, inflated, uncompressedLength - inflated);
+            }
+            return encoded;
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Cached schema version could not be inflated.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Entry {
+        private final ByteBuffer compressed;
+        private final int uncompressedLength;
+
+        private Entry(final ByteBuffer compressed, final int uncompressedLength) {
+            this.compressed = compressed;
+            this.uncompressedLength = uncompressedLength;
+        }
+
+        private GetSchemaVersionResponse decode() {
+            return SchemaVersionCodec.decode(inflate(compressed.duplicate(), uncompressedLength));
+        }
+    }
+}
@@ -17,28 +17,38 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Blended;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.function.BiFunction;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private static final Constant BACK_OFF_DELAY =
-        Constant
-            .of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(3L))
+    //Most registrations finish within seconds, so poll every second at first and only then fall back
+    //to the usual delay. Constant counts attempts from the start, so the second timeout adds back
+    //what the fast polls used. Blended keeps state, so every request needs a new one.
+    private static Delay backOffDelay() {
+        return Blended.of()
+            .add(Constant.of()
+                .timeout(Duration.ofSeconds(5L))
+                .delay(Duration.ofSeconds(1L))
+                .build())
+            .add(Constant.of()
+                .timeout(Duration.ofSeconds(130L))
+                .delay(Duration.ofSeconds(3L))
+                .build())
             .build();
+    }
 
-    private Logger logger;
+    private final ReadHandler readHandler = new ReadHandler();
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -47,32 +57,49 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
+        //Response of the stabilization poll that observed the version AVAILABLE, used to build the returned model.
+        final AtomicReference<GetSchemaVersionResponse> stabilizedVersion = new AtomicReference<>();
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-            .then(progress -> createSchemaVersion(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::Create"))
-            .then(progress -> stabilize(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::PostCreateStabilize"))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> createSchemaVersion(proxyClient, progress, logger))
+            .then(progress -> stabilize(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::PostCreateStabilize",
+                stabilizedVersion, logger))
+            .then(progress -> stabilizedVersion.get() == null
+                ? readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger)
+                : ProgressEvent.defaultSuccessHandler(ReadHandler.toResourceModel(stabilizedVersion.get())));
     }
 
+    /**
+     * Registration is not run through a call graph, as that would memoize the complete
+     * RegisterSchemaVersionRequest, including SchemaDefinition, in the callback context
+     * and serialize it again on every stabilization re-invocation.
+     * Only the VersionId and status needed for resumption are kept.
+     */
     private ProgressEvent<ResourceModel, CallbackContext> createSchemaVersion(
-        final AmazonWebServicesClientProxy proxy,
         final ProxyClient<GlueClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final String callGraph) {
-
-        return proxy.initiate(
-            callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext()
-        )
-            .translateToServiceRequest(this::resourceModelToRegisterRequest)
-            .backoffDelay(BACK_OFF_DELAY)
-            .makeServiceCall(this::registerSchemaVersion)
-            //Set VersionId in Resource model for stabilization to use it.
-            .done(this::setVersionId);
+        final Logger logger) {
+
+        final ResourceModel resourceModel = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        if (callbackContext.getSchemaVersionId() == null) {
+            final RegisterSchemaVersionResponse registerSchemaVersionResponse =
+                registerSchemaVersion(resourceModelToRegisterRequest(resourceModel), proxyClient, logger);
+
+            callbackContext.setSchemaVersionId(registerSchemaVersionResponse.schemaVersionId());
+            callbackContext.setSchemaVersionStatus(registerSchemaVersionResponse.statusAsString());
+        }
+
+        //Set VersionId in Resource model for stabilization to use it.
+        resourceModel.setVersionId(callbackContext.getSchemaVersionId());
+        return ProgressEvent.progress(resourceModel, callbackContext);
     }
 
     private RegisterSchemaVersionResponse registerSchemaVersion(
         final RegisterSchemaVersionRequest registerSchemaVersionRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         final GlueClient glueClient = proxyClient.client();
         RegisterSchemaVersionResponse registerSchemaVersionResponse = null;
@@ -151,50 +178,38 @@ public class CreateHandler extends BaseHandlerStd {
         }
     }
 
-    private ProgressEvent<ResourceModel, CallbackContext> setVersionId(
-        final RegisterSchemaVersionRequest registerSchemaVersionRequest,
-        final RegisterSchemaVersionResponse registerSchemaVersionResponse,
-        final ProxyClient<GlueClient> glueClientProxyClient,
-        final ResourceModel resourceModel,
-        final CallbackContext callbackContext) {
-
-        resourceModel.setVersionId(registerSchemaVersionResponse.schemaVersionId());
-        return ProgressEvent.progress(resourceModel, callbackContext);
-    }
-
-    private static final BiFunction<ResourceModel, ProxyClient<GlueClient>, ResourceModel> EMPTY_CALL =
-        (model, proxyClient) -> model;
-
     private ProgressEvent<ResourceModel, CallbackContext> stabilize(
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<GlueClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
-        final String callGraph) {
+        final String callGraph,
+        final AtomicReference<GetSchemaVersionResponse> stabilizedVersion,
+        final Logger logger) {
 
         return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(),
             progress.getCallbackContext())
-            .translateToServiceRequest(Function.identity())
-            .backoffDelay(BACK_OFF_DELAY)
-            .makeServiceCall(EMPTY_CALL)
+            .translateToServiceRequest(this::resourceModelToGetRequest)
+            .backoffDelay(backOffDelay())
+            //No service call, memoize only the status observed at registration.
+            .makeServiceCall((request, client) -> progress.getCallbackContext().getSchemaVersionStatus())
             .stabilize(
-                (request, response, proxyInvocation, model, callbackContext) -> isStabilized(proxyClient, response))
+                (request, status, proxyInvocation, model, callbackContext) ->
+                    isStabilized(proxyClient, request, callbackContext, stabilizedVersion, logger))
             .progress();
     }
 
-    private SchemaVersionStatus getSchemaVersionRegistrationStatus(
+    private GetSchemaVersionResponse getSchemaVersionRegistrationStatus(
         final GetSchemaVersionRequest request,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         final GlueClient glueClient = proxyClient.client();
 
         final GetSchemaVersionResponse getSchemaVersionResponse;
-        final SchemaVersionStatus schemaVersionStatus;
 
         try {
             getSchemaVersionResponse =
                 proxyClient.injectCredentialsAndInvokeV2(request, glueClient::getSchemaVersion);
-
-            schemaVersionStatus = getSchemaVersionResponse.status();
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
                 String.format(
@@ -210,10 +225,10 @@ public class CreateHandler extends BaseHandlerStd {
                 "Creation status of resource %s with ID %s is %s",
                 ResourceModel.TYPE_NAME,
                 request.schemaVersionId(),
-                schemaVersionStatus
+                getSchemaVersionResponse.status()
             ));
 
-        return schemaVersionStatus;
+        return getSchemaVersionResponse;
     }
 
     private GetSchemaVersionRequest resourceModelToGetRequest(final ResourceModel resourceModel) {
@@ -225,16 +240,20 @@ public class CreateHandler extends BaseHandlerStd {
 
     private Boolean isStabilized(
         final ProxyClient<GlueClient> proxyClient,
-        final ResourceModel resourceModel) {
+        final GetSchemaVersionRequest getSchemaVersionRequest,
+        final CallbackContext callbackContext,
+        final AtomicReference<GetSchemaVersionResponse> stabilizedVersion,
+        final Logger logger) {
 
-        final SchemaVersionStatus status =
-            getSchemaVersionRegistrationStatus(
-                resourceModelToGetRequest(resourceModel),
-                proxyClient
-            );
+        final GetSchemaVersionResponse getSchemaVersionResponse =
+            getSchemaVersionRegistrationStatus(getSchemaVersionRequest, proxyClient, logger);
+        final SchemaVersionStatus status = getSchemaVersionResponse.status();
+        callbackContext.setSchemaVersionStatus(status.toString());
 
         switch (status) {
             case AVAILABLE:
+                stabilizedVersion.set(getSchemaVersionResponse);
+                SCHEMA_DEFINITIONS.put(getSchemaVersionResponse);
                 return true;
             case PENDING:
                 return false;
@@ -244,7 +263,7 @@ public class CreateHandler extends BaseHandlerStd {
             case DELETING:
                 throw new CfnResourceConflictException(
                     ResourceModel.TYPE_NAME,
-                    resourceModel.getVersionId(),
+                    getSchemaVersionRequest.schemaVersionId(),
                     String.format("Another process is deleting this %s", ResourceModel.TYPE_NAME));
             default:
                 throw new CfnGeneralServiceException(
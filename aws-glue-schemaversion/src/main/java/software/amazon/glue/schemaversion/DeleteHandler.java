@@ -15,6 +15,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Blended;
 import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
 
@@ -23,12 +24,21 @@ import java.time.Duration;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
-    private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(4L))
+    //Most deletions finish within seconds, so poll every second at first and only then fall back
+    //to the usual delay. Constant counts attempts from the start, so the second timeout adds back
+    //what the fast polls used. Blended keeps state, so every request needs a new one.
+    private static Delay backoffDelay() {
+        return Blended.of()
+            .add(Constant.of()
+                .timeout(Duration.ofSeconds(5L))
+                .delay(Duration.ofSeconds(1L))
+                .build())
+            .add(Constant.of()
+                .timeout(Duration.ofSeconds(135L))
+                .delay(Duration.ofSeconds(4L))
+                .build())
             .build();
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -36,16 +46,15 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-Glue-SchemaVersion::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::getSchemaVersionRequest)
-                    .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchemaVersion)
-                    .stabilize(this::isDeleteStabilized)
+                    .backoffDelay(backoffDelay())
+                    .makeServiceCall((awsRequest, client) -> deleteSchemaVersion(awsRequest, client, logger))
+                    .stabilize((awsRequest, awsResponse, client, model, context) ->
+                        isDeleteStabilized(awsRequest, awsResponse, client, model, context, logger))
                     .done(
                         awsResponse ->
                             ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -58,7 +67,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final DeleteSchemaVersionsResponse deleteSchemaVersionsResponse,
         final ProxyClient<GlueClient> proxyClient,
         final ResourceModel resourceModel,
-        final CallbackContext callbackContext) {
+        final CallbackContext callbackContext,
+        final Logger logger) {
 
         final String versionId = resourceModel.getVersionId();
         try {
@@ -79,6 +89,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
             return false;
         } catch (EntityNotFoundException e) {
+            SCHEMA_DEFINITIONS.invalidate(versionId);
             logger.log(
                 String.format("%s [%s] successfully deleted.",
                     ResourceModel.TYPE_NAME,
@@ -106,7 +117,8 @@ public class DeleteHandler extends BaseHandlerStd {
      */
     private DeleteSchemaVersionsResponse deleteSchemaVersion(
         final GetSchemaVersionRequest getSchemaVersionRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final Logger logger) {
 
         final GlueClient glueClient = client.client();
         final String identifier = getSchemaVersionRequest.schemaVersionId();
@@ -12,12 +12,40 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class ListHandler extends BaseHandlerStd {
+    private static final int REGISTRY_FAN_OUT_CONCURRENCY = 8;
+    private static final int REGISTRY_SCHEMAS_PER_PAGE = 25;
+    private static final int PAGE_SIZE = 50;
+    //Glue definitions are up to 170,000 characters, so 25 of them stay well below the 6 MB Lambda response limit.
+    private static final int HYDRATED_PAGE_SIZE = 25;
+
+    private final ReadHandler readHandler = new ReadHandler();
+    private final RegistrySchemaVersionLister registryLister =
+        new RegistrySchemaVersionLister(REGISTRY_FAN_OUT_CONCURRENCY, REGISTRY_SCHEMAS_PER_PAGE);
+    private final ModelHydrator modelHydrator;
+    private final int pageSize;
+
+    public ListHandler() {
+        this.modelHydrator = null;
+        this.pageSize = PAGE_SIZE;
+    }
+
+    /**
+     * Opts in to returning full models, including schema definitions, instead of version ids only.
+     * Up to hydrationConcurrency reads run at once and the page is returned once
+     * hydrationBudget has passed, with any unfinished models left as listed. Pages hold at most
+     * 25 versions, and the caller needs glue:GetSchemaVersion on top of the list permissions.
+     */
+    public ListHandler(final int hydrationConcurrency, final Duration hydrationBudget) {
+        this.modelHydrator = new ModelHydrator(hydrationConcurrency, hydrationBudget);
+        this.pageSize = HYDRATED_PAGE_SIZE;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,6 +55,15 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
+        if (isRegistryWide(request.getDesiredResourceState().getSchema())) {
+            final RegistrySchemaVersionLister.Page page = registryLister.list(
+                proxyClient,
+                request.getDesiredResourceState().getSchema().getRegistryName(),
+                request.getNextToken(),
+                pageSize);
+            return toProgressEvent(hydrate(page.models, proxyClient, logger), page.nextToken);
+        }
+
         final ListSchemaVersionsRequest listSchemaVersionsRequest =
             translateToListRequest(request);
 
@@ -47,8 +84,37 @@ public class ListHandler extends BaseHandlerStd {
         }
 
         final String nextToken = listSchemaVersionsResponse.nextToken();
-        final List<ResourceModel> models = translateFromListResponse(listSchemaVersionsResponse);
+        final List<ResourceModel> models =
+            hydrate(translateFromListResponse(listSchemaVersionsResponse), proxyClient, logger);
+
+        return toProgressEvent(models, nextToken);
+    }
+
+    /**
+     * A Schema that names only a registry lists the versions of every schema in that registry.
+     */
+    private boolean isRegistryWide(final Schema schema) {
+        return schema != null
+            && schema.getRegistryName() != null
+            && schema.getSchemaName() == null
+            && schema.getSchemaArn() == null;
+    }
+
+    private List<ResourceModel> hydrate(
+        final List<ResourceModel> listedModels,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        return modelHydrator == null
+            ? listedModels
+            : modelHydrator.hydrate(
+                listedModels,
+                model -> readHandler.readResourceModel(model, proxyClient, logger),
+                logger);
+    }
 
+    private ProgressEvent<ResourceModel, CallbackContext> toProgressEvent(
+        final List<ResourceModel> models,
+        final String nextToken) {
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
             .nextToken(nextToken)
@@ -89,7 +155,7 @@ public class ListHandler extends BaseHandlerStd {
 
         return ListSchemaVersionsRequest
             .builder()
-            .maxResults(50)
+            .maxResults(pageSize)
             .nextToken(nextToken)
             .schemaId(requestSchemaId)
             .build();
@@ -0,0 +1,35 @@
+package software.amazon.glue.schemaversion;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool shared by the runtime for the Glue calls a List issues in parallel, so a List never
+ * creates threads of its own. Its threads are daemons and exit after a minute without work.
+ * Callers bound how much of the pool one List uses.
+ */
+final class ListReaders {
+    private static final int MAX_THREADS = 16;
+
+    static final ThreadPoolExecutor POOL = newPool();
+
+    private ListReaders() {
+    }
+
+    private static ThreadPoolExecutor newPool() {
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            MAX_THREADS,
+            MAX_THREADS,
+            1L,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "glue-list-reader");
+                thread.setDaemon(true);
+                return thread;
+            });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,105 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Replaces list results with full models read concurrently, under a concurrency cap and a
+ * time budget. Each model is placed into the page as soon as its read completes. Models whose
+ * read fails or does not finish within the budget are left as the list returned them.
+ *
+ * Reads run on {@link ListReaders}. A list never has more than its concurrency cap of reads
+ * queued or running, and reads still outstanding when the budget runs out are cancelled.
+ */
+final class ModelHydrator {
+    private final int maxConcurrency;
+    private final Duration timeBudget;
+
+    ModelHydrator(final int maxConcurrency, final Duration timeBudget) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.timeBudget = timeBudget;
+    }
+
+    List<ResourceModel> hydrate(
+        final List<ResourceModel> models,
+        final UnaryOperator<ResourceModel> reader,
+        final Logger logger) {
+
+        final List<ResourceModel> hydratedModels = new ArrayList<>(models);
+        if (models.isEmpty()) {
+            return hydratedModels;
+        }
+
+        final long deadline = System.nanoTime() + timeBudget.toNanos();
+        final CompletionService<Hydrated> completionService = new ExecutorCompletionService<>(ListReaders.POOL);
+        final List<Future<Hydrated>> reads = new ArrayList<>(models.size());
+
+        int submitted = 0;
+        int hydrated = 0;
+        try {
+            while (submitted < Math.min(maxConcurrency, models.size())) {
+                reads.add(submit(completionService, models, submitted++, reader));
+            }
+
+            for (int completed = 0; completed < models.size(); completed++) {
+                final Future<Hydrated> done =
+                    completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    break;
+                }
+                if (submitted < models.size()) {
+                    reads.add(submit(completionService, models, submitted++, reader));
+                }
+                try {
+                    final Hydrated result = done.get();
+                    if (result.model != null) {
+                        hydratedModels.set(result.index, result.model);
+                        hydrated++;
+                    }
+                } catch (final ExecutionException e) {
+                    logger.log(String.format("%s list hydration skipped a model: %s",
+                        ResourceModel.TYPE_NAME, e.getCause().getMessage()));
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            reads.forEach(read -> read.cancel(true));
+        }
+
+        logger.log(String.format("%s list hydration completed %d of %d models.",
+            ResourceModel.TYPE_NAME, hydrated, models.size()));
+        return hydratedModels;
+    }
+
+    private static Future<Hydrated> submit(
+        final CompletionService<Hydrated> completionService,
+        final List<ResourceModel> models,
+        final int index,
+        final UnaryOperator<ResourceModel> reader) {
+        final ResourceModel model = models.get(index);
+        return completionService.submit(() -> new Hydrated(index, reader.apply(model)));
+    }
+
+    private static final class Hydrated {
+        private final int index;
+        private final ResourceModel model;
+
+        private Hydrated(final int index, final ResourceModel model) {
+            this.index = index;
+            this.model = model;
+        }
+    }
+}
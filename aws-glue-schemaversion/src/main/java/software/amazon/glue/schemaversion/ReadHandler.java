@@ -2,6 +2,7 @@ package software.amazon.glue.schemaversion;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -13,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -22,8 +21,6 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate(
             "AWS-Glue-SchemaVersion::Read",
             proxyClient,
@@ -31,14 +28,22 @@ public class ReadHandler extends BaseHandlerStd {
             callbackContext)
 
             .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::getSchemaVersion)
+            .makeServiceCall((awsRequest, client) -> getSchemaVersion(awsRequest, client, logger))
             .done(response ->
                 ProgressEvent.defaultSuccessHandler(toResourceModel(response)));
     }
 
+    ResourceModel readResourceModel(
+        final ResourceModel model,
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
+        return toResourceModel(getSchemaVersion(fromResourceModel(model), proxyClient, logger));
+    }
+
     private GetSchemaVersionResponse getSchemaVersion(
         final GetSchemaVersionRequest request,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         GetSchemaVersionResponse getSchemaVersionResponse = null;
         String identifier = "";
@@ -51,7 +56,11 @@ public class ReadHandler extends BaseHandlerStd {
                     request,
                     glueClient::getSchemaVersion
                 );
+            SCHEMA_DEFINITIONS.put(getSchemaVersionResponse);
             identifier = getSchemaVersionResponse.schemaVersionId();
+        } catch (final EntityNotFoundException e) {
+            SCHEMA_DEFINITIONS.invalidate(request.schemaVersionId());
+            translateToCfnException(e, identifier);
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
@@ -71,7 +80,7 @@ public class ReadHandler extends BaseHandlerStd {
             .build();
     }
 
-    private ResourceModel toResourceModel(final GetSchemaVersionResponse getSchemaVersionResponse) {
+    static ResourceModel toResourceModel(final GetSchemaVersionResponse getSchemaVersionResponse) {
         return ResourceModel
             .builder()
             .schema(
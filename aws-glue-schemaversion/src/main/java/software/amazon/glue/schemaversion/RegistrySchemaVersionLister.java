@@ -0,0 +1,255 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static java.util.stream.Collectors.toList;
+import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Lists the schema versions of every schema in a registry. Each page lists one page of
+ * schemas and fetches the first page of versions of those schemas in parallel, in waves of
+ * at most maxConcurrency schemas on {@link ListReaders}, until the page holds maxResults
+ * versions. Schemas with more versions, and schemas not reached, are carried in the
+ * continuation token and continued before the next page of schemas is listed. The token
+ * holds the whole position, so paging stays stateless.
+ */
+final class RegistrySchemaVersionLister {
+    private static final String TOKEN_VERSION = "1";
+    private static final String MORE_SCHEMAS = "S";
+    private static final String NO_MORE_SCHEMAS = "E";
+    private static final String SEPARATOR = "\n";
+
+    private final int maxConcurrency;
+    private final int schemasPerPage;
+
+    RegistrySchemaVersionLister(final int maxConcurrency, final int schemasPerPage) {
+        this.maxConcurrency = maxConcurrency;
+        this.schemasPerPage = schemasPerPage;
+    }
+
+    static final class Page {
+        final List<ResourceModel> models;
+        final String nextToken;
+
+        private Page(final List<ResourceModel> models, final String nextToken) {
+            this.models = models;
+            this.nextToken = nextToken;
+        }
+    }
+
+    Page list(
+        final ProxyClient<GlueClient> proxyClient,
+        final String registryName,
+        final String nextToken,
+        final int maxResults) {
+
+        final Position position = Position.decode(nextToken);
+
+        String schemasToken = position.schemasToken;
+        boolean moreSchemas = position.moreSchemas;
+        List<SchemaCursor> cursors = position.pendingSchemas;
+
+        if (cursors.isEmpty()) {
+            final ListSchemasResponse listSchemasResponse = listSchemas(proxyClient, registryName, schemasToken);
+            cursors = listSchemasResponse.schemas()
+                .stream()
+                .map(SchemaListItem::schemaArn)
+                .map(schemaArn -> new SchemaCursor(schemaArn, null))
+                .collect(toList());
+            schemasToken = listSchemasResponse.nextToken();
+            moreSchemas = schemasToken != null;
+        }
+
+        final List<ResourceModel> models = new ArrayList<>();
+        final List<SchemaCursor> pendingSchemas = new ArrayList<>();
+        int next = 0;
+        while (next < cursors.size() && models.size() < maxResults) {
+            final int remaining = maxResults - models.size();
+            final List<SchemaCursor> wave = cursors.subList(next, Math.min(cursors.size(), next + maxConcurrency));
+            next += wave.size();
+
+            final List<ListSchemaVersionsResponse> responses = listVersionsInParallel(proxyClient, wave, remaining);
+            for (int i = 0; i < wave.size(); i++) {
+                final SchemaCursor cursor = wave.get(i);
+                final ListSchemaVersionsResponse response = responses.get(i);
+                final int versions = response.hasSchemas() ? response.schemas().size() : 0;
+                if (models.size() + versions > maxResults) {
+                    //A page of versions can't be resumed part way, so it is listed again on the next page.
+                    pendingSchemas.add(cursor);
+                    continue;
+                }
+                if (response.hasSchemas()) {
+                    response.schemas().forEach(version -> models.add(
+                        ResourceModel
+                            .builder()
+                            .schema(Schema.builder().schemaArn(cursor.schemaArn).build())
+                            .versionId(version.schemaVersionId())
+                            .build()));
+                }
+                if (response.nextToken() != null) {
+                    pendingSchemas.add(new SchemaCursor(cursor.schemaArn, response.nextToken()));
+                }
+            }
+        }
+        pendingSchemas.addAll(cursors.subList(next, cursors.size()));
+
+        final boolean done = pendingSchemas.isEmpty() && !moreSchemas;
+        return new Page(models, done ? null : new Position(moreSchemas, schemasToken, pendingSchemas).encode());
+    }
+
+    private ListSchemasResponse listSchemas(
+        final ProxyClient<GlueClient> proxyClient,
+        final String registryName,
+        final String schemasToken) {
+
+        ListSchemasResponse listSchemasResponse = null;
+        try {
+            listSchemasResponse = proxyClient.injectCredentialsAndInvokeV2(
+                ListSchemasRequest
+                    .builder()
+                    .registryId(RegistryId.builder().registryName(registryName).build())
+                    .maxResults(schemasPerPage)
+                    .nextToken(schemasToken)
+                    .build(),
+                proxyClient.client()::listSchemas);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, registryName);
+        }
+        return listSchemasResponse;
+    }
+
+    private List<ListSchemaVersionsResponse> listVersionsInParallel(
+        final ProxyClient<GlueClient> proxyClient,
+        final List<SchemaCursor> cursors,
+        final int maxResults) {
+
+        final List<Future<ListSchemaVersionsResponse>> futures = new ArrayList<>();
+        final List<ListSchemaVersionsResponse> responses = new ArrayList<>();
+        try {
+            for (final SchemaCursor cursor : cursors) {
+                futures.add(ListReaders.POOL.submit(() -> listVersions(proxyClient, cursor, maxResults)));
+            }
+            for (final Future<ListSchemaVersionsResponse> future : futures) {
+                responses.add(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while listing schema versions.", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return responses;
+    }
+
+    private ListSchemaVersionsResponse listVersions(
+        final ProxyClient<GlueClient> proxyClient,
+        final SchemaCursor cursor,
+        final int maxResults) {
+
+        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
+        try {
+            listSchemaVersionsResponse = proxyClient.injectCredentialsAndInvokeV2(
+                ListSchemaVersionsRequest
+                    .builder()
+                    .schemaId(SchemaId.builder().schemaArn(cursor.schemaArn).build())
+                    .maxResults(maxResults)
+                    .nextToken(cursor.versionsToken)
+                    .build(),
+                proxyClient.client()::listSchemaVersions);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, cursor.schemaArn);
+        }
+        return listSchemaVersionsResponse;
+    }
+
+    private static final class SchemaCursor {
+        private final String schemaArn;
+        private final String versionsToken;
+
+        private SchemaCursor(final String schemaArn, final String versionsToken) {
+            this.schemaArn = schemaArn;
+            this.versionsToken = versionsToken;
+        }
+    }
+
+    /**
+     * Position in the registry listing, encoded as base64 of newline separated fields:
+     * token version, schemas state with the ListSchemas token, then schema ARN and
+     * ListSchemaVersions token pairs for the schemas that still have versions to list. The
+     * token is empty for schemas whose versions haven't been listed yet.
+     */
+    private static final class Position {
+        private final boolean moreSchemas;
+        private final String schemasToken;
+        private final List<SchemaCursor> pendingSchemas;
+
+        private Position(
+            final boolean moreSchemas,
+            final String schemasToken,
+            final List<SchemaCursor> pendingSchemas) {
+            this.moreSchemas = moreSchemas;
+            this.schemasToken = schemasToken;
+            this.pendingSchemas = pendingSchemas;
+        }
+
+        private String encode() {
+            final StringBuilder builder = new StringBuilder(TOKEN_VERSION)
+                .append(SEPARATOR)
+                .append(moreSchemas ? MORE_SCHEMAS + (schemasToken == null ? "" : schemasToken) : NO_MORE_SCHEMAS);
+            for (final SchemaCursor cursor : pendingSchemas) {
+                builder.append(SEPARATOR).append(cursor.schemaArn).append(SEPARATOR)
+                    .append(cursor.versionsToken == null ? "" : cursor.versionsToken);
+            }
+            return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Position decode(final String nextToken) {
+            if (nextToken == null) {
+                return new Position(true, null, new ArrayList<>());
+            }
+
+            final String[] fields;
+            try {
+                fields = new String(Base64.getUrlDecoder().decode(nextToken), StandardCharsets.UTF_8)
+                    .split(SEPARATOR, -1);
+            } catch (final IllegalArgumentException e) {
+                throw new CfnInvalidRequestException("Invalid nextToken for registry wide schema version listing.");
+            }
+            if (fields.length < 2 || fields.length % 2 != 0 || !TOKEN_VERSION.equals(fields[0])
+                || !(fields[1].startsWith(MORE_SCHEMAS) || fields[1].equals(NO_MORE_SCHEMAS))) {
+                throw new CfnInvalidRequestException("Invalid nextToken for registry wide schema version listing.");
+            }
+
+            final boolean moreSchemas = fields[1].startsWith(MORE_SCHEMAS);
+            final String schemasToken = moreSchemas && fields[1].length() > 1 ? fields[1].substring(1) : null;
+            final List<SchemaCursor> pendingSchemas = new ArrayList<>();
+            for (int i = 2; i < fields.length; i += 2) {
+                pendingSchemas.add(new SchemaCursor(fields[i], fields[i + 1].isEmpty() ? null : fields[i + 1]));
+            }
+            return new Position(moreSchemas, schemasToken, pendingSchemas);
+        }
+    }
+}
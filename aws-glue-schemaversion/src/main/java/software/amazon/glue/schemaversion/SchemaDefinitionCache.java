@@ -0,0 +1,208 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Least recently used cache of schema versions keyed by SchemaVersionId, bounded by the
+ * total size of the cached schema definitions. Only the immutable parts of a version are
+ * kept: the schema ARN, version number, data format and definition. Status changes over
+ * time and is never cached, so callers that need to know the version still exists must
+ * still ask Glue; Read and Delete always fetch the version from Glue, which also checks the
+ * caller may read it, and Read refreshes the cached entry from the response.
+ *
+ * An optional lower tier receives the versions evicted from the heap and is consulted on a
+ * miss; versions found there are moved back onto the heap. Put only stores on the heap.
+ * Versions move between the tiers outside of the lock, so a move that overlaps an invalidate
+ * is undone rather than bringing the invalidated version back.
+ */
+final class SchemaDefinitionCache {
+    //Recently used versions only; the compressed tier below holds the rest.
+    static final long DEFAULT_MAX_WEIGHT_BYTES = 4L * 1024 * 1024;
+
+    //Rough per entry cost of the ids, ARN and map entry besides the definition itself.
+    private static final long ENTRY_OVERHEAD_BYTES = 512;
+
+    private final long maxWeightBytes;
+    private final SchemaDefinitionTier lowerTier;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+    //Bumped under the lock by every invalidate, so moves between the tiers can tell they overlapped one.
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder lowerTierHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    SchemaDefinitionCache(final long maxWeightBytes) {
+        this(maxWeightBytes, null);
+    }
+
+    SchemaDefinitionCache(final long maxWeightBytes, final SchemaDefinitionTier lowerTier) {
+        this.maxWeightBytes = maxWeightBytes;
+        this.lowerTier = lowerTier;
+    }
+
+    /**
+     * Returns the immutable fields of the version as a response without status, or null.
+     */
+    GetSchemaVersionResponse get(final String schemaVersionId) {
+        final Entry entry;
+        final long invalidationsSeen;
+        synchronized (this) {
+            entry = schemaVersionId == null ? null : entries.get(schemaVersionId);
+            invalidationsSeen = invalidations;
+        }
+        if (entry != null) {
+            hits.increment();
+            return entry.version;
+        }
+
+        final GetSchemaVersionResponse lowerTierVersion =
+            lowerTier == null || schemaVersionId == null ? null : lowerTier.take(schemaVersionId);
+        if (lowerTierVersion == null) {
+            misses.increment();
+            return null;
+        }
+        lowerTierHits.increment();
+        store(new Entry(lowerTierVersion), invalidationsSeen);
+        return lowerTierVersion;
+    }
+
+    void put(final GetSchemaVersionResponse getSchemaVersionResponse) {
+        if (getSchemaVersionResponse == null
+            || getSchemaVersionResponse.schemaVersionId() == null
+            || getSchemaVersionResponse.schemaArn() == null
+            || getSchemaVersionResponse.versionNumber() == null) {
+            return;
+        }
+
+        final Entry entry = new Entry(
+            GetSchemaVersionResponse
+                .builder()
+                .schemaVersionId(getSchemaVersionResponse.schemaVersionId())
+                .schemaArn(getSchemaVersionResponse.schemaArn())
+                .versionNumber(getSchemaVersionResponse.versionNumber())
+                .dataFormat(getSchemaVersionResponse.dataFormatAsString())
+                .schemaDefinition(getSchemaVersionResponse.schemaDefinition())
+                .build());
+        store(entry, null);
+    }
+
+    /**
+     * Stores the entry on the heap and moves the least recently used entries beyond the weight
+     * to the lower tier, outside of the lock. An entry taken from the lower tier is only stored
+     * if nothing was invalidated since it was taken.
+     */
+    private void store(final Entry entry, final Long invalidationsSeen) {
+        final List<Entry> evicted = new ArrayList<>();
+        final long invalidationsAtStore;
+        synchronized (this) {
+            if (invalidationsSeen != null && invalidationsSeen != invalidations) {
+                return;
+            }
+            invalidationsAtStore = invalidations;
+
+            if (entry.weightBytes > maxWeightBytes) {
+                evicted.add(entry);
+            } else {
+                final Entry previous = entries.put(entry.version.schemaVersionId(), entry);
+                if (previous != null) {
+                    weightBytes -= previous.weightBytes;
+                }
+                weightBytes += entry.weightBytes;
+
+                final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                while (weightBytes > maxWeightBytes && eldest.hasNext()) {
+                    final Entry eldestEntry = eldest.next().getValue();
+                    weightBytes -= eldestEntry.weightBytes;
+                    eldest.remove();
+                    evicted.add(eldestEntry);
+                    evictions.increment();
+                }
+            }
+        }
+        demote(evicted, invalidationsAtStore);
+    }
+
+    /**
+     * Puts the entries in the lower tier, and takes them out again if an invalidate ran since
+     * they left the heap, since that invalidate may have missed them in both tiers.
+     */
+    private void demote(final List<Entry> demoted, final long invalidationsSeen) {
+        if (lowerTier == null || demoted.isEmpty()) {
+            return;
+        }
+        demoted.forEach(entry -> lowerTier.put(entry.version));
+        synchronized (this) {
+            if (invalidationsSeen == invalidations) {
+                return;
+            }
+        }
+        demoted.forEach(entry -> lowerTier.invalidate(entry.version.schemaVersionId()));
+    }
+
+    void invalidate(final String schemaVersionId) {
+        synchronized (this) {
+            invalidations++;
+            final Entry removed = schemaVersionId == null ? null : entries.remove(schemaVersionId);
+            if (removed != null) {
+                weightBytes -= removed.weightBytes;
+            }
+        }
+        if (lowerTier != null && schemaVersionId != null) {
+            lowerTier.invalidate(schemaVersionId);
+        }
+    }
+
+    /**
+     * Clears the heap entries only; the lower tier keeps its versions.
+     */
+    synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+        weightBytes = 0;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getLowerTierHits() {
+        return lowerTierHits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getWeightBytes() {
+        return weightBytes;
+    }
+
+    private static final class Entry {
+        private final GetSchemaVersionResponse version;
+        private final long weightBytes;
+
+        private Entry(final GetSchemaVersionResponse version) {
+            this.version = version;
+            final String schemaDefinition = version.schemaDefinition();
+            this.weightBytes = ENTRY_OVERHEAD_BYTES + (schemaDefinition == null ? 0 : 2L * schemaDefinition.length());
+        }
+    }
+}
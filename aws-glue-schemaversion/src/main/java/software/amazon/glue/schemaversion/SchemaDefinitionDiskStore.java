@@ -0,0 +1,380 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Schema version tier kept in append-only, memory-mapped segment files, so definitions cached
+ * by a warm container stay out of the heap and survive the handler being loaded again.
+ *
+ * Each record is a header of magic, CRC32, key length and value length followed by the
+ * version id and the encoded version. The body is written before the header and the magic is
+ * written last, so a record cut short by a frozen or killed runtime is never indexed. Taking
+ * or invalidating a version appends a tombstone record. The index lives in memory and is
+ * rebuilt on open by scanning the segments in order; scanning stops at the first record that
+ * fails its checks and the rest of that segment is cleared, and a record that fails its CRC on
+ * read is dropped.
+ * Segments are mapped at a small initial size and the mapping doubles as records are appended,
+ * up to segmentBytes, so what is mapped follows what is cached rather than the configured
+ * capacity. When the active segment is full a new one is started, and the oldest segment is
+ * deleted with everything it holds once there are more than maxSegments.
+ */
+final class SchemaDefinitionDiskStore implements SchemaDefinitionTier {
+    static final int DEFAULT_INITIAL_SEGMENT_BYTES = 256 * 1024;
+    static final int DEFAULT_SEGMENT_BYTES = 16 * 1024 * 1024;
+    static final int DEFAULT_MAX_SEGMENTS = 4;
+
+    private static final int RECORD_MAGIC = 0x47535644;
+    private static final int HEADER_BYTES = 16;
+    private static final int TOMBSTONE = -1;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+
+    private final Path directory;
+    private final int initialSegmentBytes;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Map<String, Location> index = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder corruptRecords = new LongAdder();
+    private final LongAdder evictedSegments = new LongAdder();
+
+    /**
+     * Opens the store under /tmp when running in Lambda, or returns null when not in Lambda or
+     * the store can't be opened, in which case definitions are only cached in memory.
+     */
+    static SchemaDefinitionTier openInLambdaTmp() {
+        if (System.getenv("LAMBDA_TASK_ROOT") == null) {
+            return null;
+        }
+        try {
+            return new SchemaDefinitionDiskStore(
+                Paths.get(System.getProperty("java.io.tmpdir"), "aws-glue-schemaversion-definitions"),
+                DEFAULT_SEGMENT_BYTES,
+                DEFAULT_MAX_SEGMENTS);
+        } catch (final IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    SchemaDefinitionDiskStore(
+        final Path directory,
+        final int segmentBytes,
+        final int maxSegments) throws IOException {
+        if (segmentBytes <= HEADER_BYTES || maxSegments < 1) {
+            throw new IllegalArgumentException("segmentBytes and maxSegments are too small.");
+        }
+        this.directory = directory;
+        this.initialSegmentBytes = Math.min(DEFAULT_INITIAL_SEGMENT_BYTES, segmentBytes);
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+
+        Files.createDirectories(directory);
+        for (final long segmentId : existingSegmentIds()) {
+            final Segment segment = Segment.open(segmentPath(segmentId), segmentId, initialSegmentBytes);
+            segments.addLast(segment);
+            recover(segment);
+        }
+        if (segments.isEmpty()) {
+            roll();
+        }
+        evictOldSegments();
+    }
+
+    @Override
+    public synchronized GetSchemaVersionResponse take(final String schemaVersionId) {
+        final Location location = schemaVersionId == null ? null : index.get(schemaVersionId);
+        if (location == null) {
+            misses.increment();
+            return null;
+        }
+
+        final Record record = read(location.segment, location.offset);
+        if (record == null || record.value == null || !schemaVersionId.equals(record.key)) {
+            corruptRecords.increment();
+            index.remove(schemaVersionId);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        invalidate(schemaVersionId);
+        return SchemaVersionCodec.decode(record.value);
+    }
+
+    @Override
+    public synchronized void put(final GetSchemaVersionResponse schemaVersion) {
+        if (schemaVersion == null || schemaVersion.schemaVersionId() == null
+            || index.containsKey(schemaVersion.schemaVersionId())) {
+            return;
+        }
+        append(schemaVersion.schemaVersionId(), SchemaVersionCodec.encode(schemaVersion));
+    }
+
+    @Override
+    public synchronized void invalidate(final String schemaVersionId) {
+        if (schemaVersionId != null && index.remove(schemaVersionId) != null) {
+            append(schemaVersionId, null);
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getCorruptRecords() {
+        return corruptRecords.sum();
+    }
+
+    long getEvictedSegments() {
+        return evictedSegments.sum();
+    }
+
+    synchronized int size() {
+        return index.size();
+    }
+
+    private void append(final String key, final byte[] value) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final int recordBytes = HEADER_BYTES + keyBytes.length + (value == null ? 0 : value.length);
+        if (recordBytes > segmentBytes) {
+            return;
+        }
+
+        try {
+            Segment segment = segments.getLast();
+            final int requiredBytes = segment.writePosition + recordBytes;
+            if (requiredBytes > segment.buffer.capacity()) {
+                if (requiredBytes <= segmentBytes) {
+                    segment.grow(Math.min(segmentBytes, Math.max(requiredBytes, 2 * segment.buffer.capacity())));
+                } else {
+                    segment = roll();
+                    evictOldSegments();
+                }
+            }
+
+            final int offset = segment.writePosition;
+            final MappedByteBuffer buffer = segment.buffer;
+            final CRC32 crc = new CRC32();
+            crc.update(keyBytes);
+            position(buffer, offset + HEADER_BYTES).put(keyBytes);
+            if (value != null) {
+                crc.update(value);
+                buffer.put(value);
+            }
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.putInt(offset + 8, keyBytes.length);
+            buffer.putInt(offset + 12, value == null ? TOMBSTONE : value.length);
+            buffer.putInt(offset, RECORD_MAGIC);
+            segment.writePosition = offset + recordBytes;
+
+            if (value != null) {
+                index.put(key, new Location(segment, offset));
+            }
+        } catch (final IOException e) {
+            //The disk tier is best effort; the caller still has the version.
+        }
+    }
+
+    /**
+     * Rebuilds the index from a segment and moves its write position past the last valid record.
+     */
+    private void recover(final Segment segment) {
+        int offset = 0;
+        Record record;
+        while ((record = read(segment, offset)) != null) {
+            if (record.value == null) {
+                index.remove(record.key);
+            } else {
+                index.put(record.key, new Location(segment, offset));
+            }
+            offset += record.length;
+        }
+        segment.writePosition = offset;
+
+        if (!isCleared(segment.buffer, offset)) {
+            corruptRecords.increment();
+            position(segment.buffer, offset);
+            while (segment.buffer.hasRemaining()) {
+                segment.buffer.put((byte) 0);
+            }
+        }
+    }
+
+    private static boolean isCleared(final MappedByteBuffer buffer, final int offset) {
+        for (int i = offset; i < Math.min(offset + HEADER_BYTES, buffer.capacity()); i++) {
+            if (buffer.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads and checks the record at offset, returning null when there isn't a valid one.
+     */
+    private static Record read(final Segment segment, final int offset) {
+        final MappedByteBuffer buffer = segment.buffer;
+        if (offset < 0 || offset + HEADER_BYTES > buffer.capacity() || buffer.getInt(offset) != RECORD_MAGIC) {
+            return null;
+        }
+        final int expectedCrc = buffer.getInt(offset + 4);
+        final int keyLength = buffer.getInt(offset + 8);
+        final int valueLength = buffer.getInt(offset + 12);
+        if (keyLength <= 0 || valueLength < TOMBSTONE
+            || (long) offset + HEADER_BYTES + keyLength + Math.max(valueLength, 0) > buffer.capacity()) {
+            return null;
+        }
+
+        final byte[] key = new byte[keyLength];
+        position(buffer.duplicate(), offset + HEADER_BYTES).get(key);
+        final byte[] value = valueLength == TOMBSTONE ? null : new byte[valueLength];
+        final CRC32 crc = new CRC32();
+        crc.update(key);
+        if (value != null) {
+            position(buffer.duplicate(), offset + HEADER_BYTES + keyLength).get(value);
+            crc.update(value);
+        }
+        if ((int) crc.getValue() != expectedCrc) {
+            return null;
+        }
+        return new Record(
+            new String(key, StandardCharsets.UTF_8),
+            value,
+            HEADER_BYTES + keyLength + (value == null ? 0 : value.length));
+    }
+
+    private Segment roll() throws IOException {
+        final long segmentId = segments.isEmpty() ? 0 : segments.getLast().id + 1;
+        final Segment segment = Segment.open(segmentPath(segmentId), segmentId, initialSegmentBytes);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void evictOldSegments() {
+        while (segments.size() > maxSegments) {
+            final Segment evicted = segments.removeFirst();
+            final Iterator<Location> locations = index.values().iterator();
+            while (locations.hasNext()) {
+                if (locations.next().segment == evicted) {
+                    locations.remove();
+                }
+            }
+            evicted.delete();
+            evictedSegments.increment();
+        }
+    }
+
+    private List<Long> existingSegmentIds() throws IOException {
+        final List<Long> segmentIds = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (final Path file : files) {
+                final String name = file.getFileName().toString();
+                try {
+                    segmentIds.add(Long.parseLong(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (final NumberFormatException e) {
+                    //Not one of ours.
+                }
+            }
+        }
+        segmentIds.sort(Long::compare);
+        return segmentIds;
+    }
+
+    private Path segmentPath(final long segmentId) {
+        return directory.resolve(SEGMENT_PREFIX + segmentId + SEGMENT_SUFFIX);
+    }
+
+    //Buffer.position returns Buffer on Java 8, so the cast keeps this compiling there.
+    private static ByteBuffer position(final ByteBuffer buffer, final int position) {
+        return (ByteBuffer) buffer.position(position);
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private MappedByteBuffer buffer;
+        private int writePosition;
+
+        private Segment(final long id, final Path path, final MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(final Path path, final long id, final int minimumBytes) throws IOException {
+            return new Segment(id, path, map(path, minimumBytes));
+        }
+
+        /**
+         * Maps the segment again with at least the given size; the file is extended with zeros.
+         */
+        private void grow(final int minimumBytes) throws IOException {
+            buffer = map(path, minimumBytes);
+        }
+
+        private static MappedByteBuffer map(final Path path, final int minimumBytes) throws IOException {
+            try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long size = Math.min(Integer.MAX_VALUE, Math.max(channel.size(), minimumBytes));
+                return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            }
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException e) {
+                //Left for the next eviction or container.
+            }
+        }
+    }
+
+    private static final class Location {
+        private final Segment segment;
+        private final int offset;
+
+        private Location(final Segment segment, final int offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+    }
+
+    private static final class Record {
+        private final String key;
+        private final byte[] value;
+        private final int length;
+
+        private Record(final String key, final byte[] value, final int length) {
+            this.key = key;
+            this.value = value;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+/**
+ * Storage below the on-heap {@link SchemaDefinitionCache}, holding the immutable fields of
+ * schema versions outside the Java heap. Tiers are exclusive: the tier above puts the versions
+ * it evicts and takes back the versions it reads, and a tier puts its own evictions into the
+ * tier below it, so a version is only held once. Implementations treat any storage failure
+ * as a miss.
+ */
+interface SchemaDefinitionTier {
+    /**
+     * Removes the version from this tier, or from the tiers below it, and returns it, or null.
+     */
+    GetSchemaVersionResponse take(String schemaVersionId);
+
+    void put(GetSchemaVersionResponse schemaVersion);
+
+    void invalidate(String schemaVersionId);
+}
@@ -0,0 +1,69 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of the immutable schema version fields kept by the off-heap tiers.
+ */
+final class SchemaVersionCodec {
+    private static final int ABSENT = -1;
+
+    private SchemaVersionCodec() { }
+
+    static byte[] encode(final GetSchemaVersionResponse schemaVersion) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, schemaVersion.schemaVersionId());
+            writeString(out, schemaVersion.schemaArn());
+            out.writeLong(schemaVersion.versionNumber());
+            writeString(out, schemaVersion.dataFormatAsString());
+            writeString(out, schemaVersion.schemaDefinition());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static GetSchemaVersionResponse decode(final byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            return GetSchemaVersionResponse
+                .builder()
+                .schemaVersionId(readString(in))
+                .schemaArn(readString(in))
+                .versionNumber(in.readLong())
+                .dataFormat(readString(in))
+                .schemaDefinition(readString(in))
+                .build();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(ABSENT);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == ABSENT) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompressedDefinitionStoreTest {
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+
+    @Test
+    public void put_WhenManyVersionsAreCached_KeepsThemCompressedWithinBudget() {
+        final String schemaDefinition = avroDefinition(100);
+        final CompressedDefinitionStore store = new CompressedDefinitionStore(1024 * 1024, null);
+
+        for (int i = 0; i < 1000; i++) {
+            store.put(version("v" + i, schemaDefinition));
+        }
+
+        assertThat(store.size()).isEqualTo(1000);
+        assertThat(store.getEvictions()).isEqualTo(0);
+        assertThat(store.getCompressedBytes()).isLessThan(store.getUncompressedBytes() / 10);
+
+        final GetSchemaVersionResponse taken = store.take("v500");
+        assertThat(taken.schemaDefinition()).isEqualTo(schemaDefinition);
+        assertThat(taken.versionNumber()).isEqualTo(1L);
+        assertThat(store.size()).isEqualTo(999);
+    }
+
+    @Test
+    public void put_WhenBudgetIsExceeded_MovesOldestToLowerTier() {
+        final CompressedDefinitionStore unbounded = new CompressedDefinitionStore(1024 * 1024, null);
+        unbounded.put(version("v1", avroDefinition(10)));
+        final long versionBytes = unbounded.getCompressedBytes();
+
+        final CompressedDefinitionStore lowerTier = new CompressedDefinitionStore(1024 * 1024, null);
+        final CompressedDefinitionStore store = new CompressedDefinitionStore(2 * versionBytes, lowerTier);
+        store.put(version("v1", avroDefinition(10)));
+        store.put(version("v2", avroDefinition(10)));
+        store.put(version("v3", avroDefinition(10)));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.getEvictions()).isEqualTo(1);
+        assertThat(store.getCompressedBytes()).isLessThanOrEqualTo(2 * versionBytes);
+        assertThat(lowerTier.size()).isEqualTo(1);
+        assertThat(lowerTier.take("v1").schemaDefinition()).isEqualTo(avroDefinition(10));
+    }
+
+    @Test
+    public void take_WhenVersionIsOnlyInLowerTier_RemovesItFromThere() {
+        final CompressedDefinitionStore lowerTier = new CompressedDefinitionStore(1024 * 1024, null);
+        lowerTier.put(version("v1", avroDefinition(10)));
+        final CompressedDefinitionStore store = new CompressedDefinitionStore(1024 * 1024, lowerTier);
+
+        assertThat(store.take("v1").schemaDefinition()).isEqualTo(avroDefinition(10));
+        assertThat(store.getMisses()).isEqualTo(1);
+        assertThat(lowerTier.getHits()).isEqualTo(1);
+        assertThat(lowerTier.size()).isEqualTo(0);
+        assertThat(store.take("v1")).isNull();
+    }
+
+    @Test
+    public void invalidate_WhenVersionIsInLowerTier_RemovesItThere() {
+        final CompressedDefinitionStore lowerTier = new CompressedDefinitionStore(1024 * 1024, null);
+        lowerTier.put(version("v1", avroDefinition(10)));
+        final CompressedDefinitionStore store = new CompressedDefinitionStore(1024 * 1024, lowerTier);
+
+        store.invalidate("v1");
+
+        assertThat(lowerTier.size()).isEqualTo(0);
+        assertThat(store.take("v1")).isNull();
+    }
+
+    private static String avroDefinition(final int fieldCount) {
+        final StringBuilder fields = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            fields.append(i == 0 ? "" : ", ")
+                .append("{\"name\": \"field").append(i).append("\", \"type\": [\"null\", \"string\"], \"default\": null}");
+        }
+        return "{\"type\": \"record\", \"name\": \"r1\", \"namespace\": \"unit.testing\", \"fields\": [" + fields + "]}";
+    }
+
+    private static GetSchemaVersionResponse version(final String schemaVersionId, final String schemaDefinition) {
+        return GetSchemaVersionResponse
+            .builder()
+            .schemaVersionId(schemaVersionId)
+            .schemaArn(SCHEMA_ARN)
+            .versionNumber(1L)
+            .dataFormat("AVRO")
+            .schemaDefinition(schemaDefinition)
+            .build();
+    }
+}
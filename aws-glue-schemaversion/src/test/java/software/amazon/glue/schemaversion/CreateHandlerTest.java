@@ -1,5 +1,6 @@
 package software.amazon.glue.schemaversion;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +33,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
 
 import java.time.Instant;
 
@@ -77,10 +79,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxy.injectCredentialsAndInvokeV2(
             TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
             .thenReturn(
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //From ReadHandler.
                 TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
-            );
+            )
+            //Returned model is built from the stabilization response, without another read.
+            .thenThrow(EntityNotFoundException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(
@@ -117,10 +119,9 @@ public class CreateHandlerTest extends AbstractTestBase {
                 //Return pending initially.
                 TestData.getSchemaVersionResponseWithStatus(PENDING),
                 //Then return available.
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //Then from Read handler.
                 TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
-            );
+            )
+            .thenThrow(EntityNotFoundException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(
@@ -154,8 +155,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxy.injectCredentialsAndInvokeV2(
             TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
             .thenReturn(
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //Then from Read handler.
                 TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
             );
 
@@ -498,6 +497,58 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
 
+    @Test
+    public void handleRequest_WhenStabilizationSpansInvocations_KeepsCallbackContextCompact() throws Exception {
+        //No remaining time, so every PENDING poll is handed back as a callback.
+        final AmazonWebServicesClientProxy callbackProxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> 0L);
+        final ProxyClient<GlueClient> callbackProxyClient = MOCK_PROXY(callbackProxy, glueClient);
+        final Serializer serializer = new Serializer();
+
+        when(callbackProxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN, glueClient::getSchemaByDefinition))
+            .thenThrow(EntityNotFoundException.class);
+
+        when(callbackProxy.injectCredentialsAndInvokeV2(
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN, glueClient::registerSchemaVersion))
+            .thenReturn(TestData.getRegisterSchemaVersionResponseWithStatus(PENDING));
+
+        when(callbackProxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(PENDING));
+
+        CallbackContext callbackContext = new CallbackContext();
+        Integer firstPayloadSize = null;
+
+        for (int invocation = 0; invocation < 20; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(
+                    callbackProxy,
+                    TestData.RESOURCE_MODEL_RESOURCE_HANDLER_FOR_VERSION_BY_ARN,
+                    callbackContext,
+                    callbackProxyClient,
+                    logger
+                );
+
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+            final String payload = serializer.serialize(response.getCallbackContext());
+            assertThat(payload).doesNotContain("md5");
+            assertThat(payload).contains(TestData.NEXT_SCHEMA_VERSION_ID);
+
+            if (firstPayloadSize == null) {
+                firstPayloadSize = payload.length();
+            }
+            //Only the attempt count changes between re-invocations.
+            assertThat(payload.length()).isBetween(firstPayloadSize, firstPayloadSize + 2);
+
+            callbackContext = serializer.deserialize(payload, new TypeReference<CallbackContext>() { });
+        }
+
+        assertThat(callbackContext.getSchemaVersionId()).isEqualTo(TestData.NEXT_SCHEMA_VERSION_ID);
+        assertThat(callbackContext.getSchemaVersionStatus()).isEqualTo(PENDING.toString());
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
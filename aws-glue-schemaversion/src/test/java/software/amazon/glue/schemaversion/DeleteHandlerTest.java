@@ -18,6 +18,7 @@ import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
 import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -26,6 +27,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +48,23 @@ public class DeleteHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new DeleteHandler();
+        BaseHandlerStd.SCHEMA_DEFINITIONS.invalidateAll();
+    }
+
+    @Test
+    public void handleRequest_WhenCachedVersionIsAlreadyDeleted_ThrowsNotFound() {
+        BaseHandlerStd.SCHEMA_DEFINITIONS.put(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        assertThrows(
+            CfnNotFoundException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger));
+        verify(glueClient, never()).deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class));
     }
 
     @Test
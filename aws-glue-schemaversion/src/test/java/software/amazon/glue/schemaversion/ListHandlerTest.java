@@ -8,10 +8,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
 import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -19,11 +27,17 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +60,7 @@ public class ListHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new ListHandler();
+        BaseHandlerStd.SCHEMA_DEFINITIONS.invalidateAll();
     }
 
     @Test
@@ -128,6 +143,160 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Access denied for operation 'AWS::Glue::SchemaVersion'");
     }
 
+    @Test
+    public void handleRequest_WhenHydrationIsEnabled_ReturnsFullModelsWhereReadSucceeds() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMA_VERSIONS_REQUEST_BY_NAME.toBuilder().maxResults(TestData.HYDRATED_MAX_RESULTS).build(),
+            glueClient::listSchemaVersions))
+            .thenReturn(TestData.LIST_SCHEMA_VERSIONS_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_1, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE_1);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_2, glueClient::getSchemaVersion))
+            .thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            new ListHandler(2, Duration.ofSeconds(30))
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_BY_SCHEMA_NAME, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+            .containsExactly(TestData.HYDRATED_RESOURCE_MODEL_1, TestData.LIST_RESOURCE_MODEL_2);
+        assertThat(response.getNextToken()).isEqualTo(TestData.ANOTHER_NEXT_TOKEN);
+    }
+
+    @Test
+    public void handleRequest_WhenOnlyRegistryIsGiven_ListsVersionsOfEverySchema() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST, glueClient::listSchemas))
+            .thenReturn(TestData.LIST_SCHEMAS_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            listSchemaVersionsRequest(TestData.SCHEMA_ARN, null), glueClient::listSchemaVersions))
+            .thenReturn(listSchemaVersionsResponse(TestData.SCHEMA_VERSION_ID_1, TestData.ANOTHER_NEXT_TOKEN));
+        when(proxy.injectCredentialsAndInvokeV2(
+            listSchemaVersionsRequest(TestData.ANOTHER_SCHEMA_ARN, null), glueClient::listSchemaVersions))
+            .thenReturn(listSchemaVersionsResponse(TestData.ANOTHER_SCHEMA_VERSION_ID, null));
+        when(proxy.injectCredentialsAndInvokeV2(
+            listSchemaVersionsRequest(TestData.SCHEMA_ARN, TestData.ANOTHER_NEXT_TOKEN), glueClient::listSchemaVersions))
+            .thenReturn(listSchemaVersionsResponse(TestData.SCHEMA_VERSION_ID_2, null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_BY_REGISTRY, new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(firstPage.getResourceModels()).containsExactly(
+            registryWideModel(TestData.SCHEMA_ARN, TestData.SCHEMA_VERSION_ID_1),
+            registryWideModel(TestData.ANOTHER_SCHEMA_ARN, TestData.ANOTHER_SCHEMA_VERSION_ID));
+        assertThat(firstPage.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage =
+            handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_HANDLER_BY_REGISTRY.toBuilder().nextToken(firstPage.getNextToken()).build(),
+                new CallbackContext(),
+                proxyClient,
+                logger);
+
+        assertThat(secondPage.getResourceModels()).containsExactly(
+            registryWideModel(TestData.SCHEMA_ARN, TestData.SCHEMA_VERSION_ID_2));
+        assertThat(secondPage.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_WhenRegistryWideVersionsExceedPageSize_CarriesRemainingSchemasToNextPage() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.LIST_SCHEMAS_REQUEST, glueClient::listSchemas))
+            .thenReturn(TestData.LIST_SCHEMAS_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            listSchemaVersionsRequest(TestData.SCHEMA_ARN, null), glueClient::listSchemaVersions))
+            .thenReturn(listSchemaVersionsResponse("first-", 30));
+        when(proxy.injectCredentialsAndInvokeV2(
+            listSchemaVersionsRequest(TestData.ANOTHER_SCHEMA_ARN, null), glueClient::listSchemaVersions))
+            .thenReturn(listSchemaVersionsResponse("second-", 30));
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_BY_REGISTRY, new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels()).hasSize(30)
+            .allMatch(model -> TestData.SCHEMA_ARN.equals(model.getSchema().getSchemaArn()));
+        assertThat(firstPage.getNextToken()).isNotNull();
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage =
+            handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_HANDLER_BY_REGISTRY.toBuilder().nextToken(firstPage.getNextToken()).build(),
+                new CallbackContext(),
+                proxyClient,
+                logger);
+
+        assertThat(secondPage.getResourceModels()).hasSize(30)
+            .allMatch(model -> TestData.ANOTHER_SCHEMA_ARN.equals(model.getSchema().getSchemaArn()));
+        assertThat(secondPage.getNextToken()).isNull();
+        //The second schema was listed on the first page too, but didn't fit.
+        verify(glueClient, times(3)).listSchemaVersions(any(ListSchemaVersionsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenRegistryWideTokenIsInvalid_ThrowsException() {
+
+        assertThrows(
+            CfnInvalidRequestException.class,
+            () -> handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_HANDLER_BY_REGISTRY.toBuilder().nextToken("not-a-token").build(),
+                new CallbackContext(),
+                proxyClient,
+                logger)
+        );
+    }
+
+    private static ListSchemaVersionsRequest listSchemaVersionsRequest(final String schemaArn, final String nextToken) {
+        return ListSchemaVersionsRequest
+            .builder()
+            .schemaId(
+                software.amazon.awssdk.services.glue.model.SchemaId
+                    .builder()
+                    .schemaArn(schemaArn)
+                    .build()
+            )
+            .maxResults(TestData.MAX_RESULTS)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static ListSchemaVersionsResponse listSchemaVersionsResponse(
+        final String schemaVersionId,
+        final String nextToken) {
+        return ListSchemaVersionsResponse
+            .builder()
+            .schemas(SchemaVersionListItem.builder().schemaVersionId(schemaVersionId).build())
+            .nextToken(nextToken)
+            .build();
+    }
+
+    private static ListSchemaVersionsResponse listSchemaVersionsResponse(
+        final String schemaVersionIdPrefix,
+        final int versions) {
+        return ListSchemaVersionsResponse
+            .builder()
+            .schemas(IntStream.range(0, versions)
+                .mapToObj(i -> SchemaVersionListItem.builder().schemaVersionId(schemaVersionIdPrefix + i).build())
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    private static ResourceModel registryWideModel(final String schemaArn, final String schemaVersionId) {
+        return ResourceModel
+            .builder()
+            .schema(Schema.builder().schemaArn(schemaArn).build())
+            .versionId(schemaVersionId)
+            .build();
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
@@ -139,6 +308,7 @@ public class ListHandlerTest extends AbstractTestBase {
         private static final Long VERSION_NUMBER_2 = 2l;
         public static final String ANOTHER_NEXT_TOKEN = "09j09j09123o=";
         private static final Integer MAX_RESULTS = 50;
+        private static final Integer HYDRATED_MAX_RESULTS = 25;
 
         public static final ResourceModel RESOURCE_MODEL_BY_SCHEMA_ARN =
             ResourceModel
@@ -199,6 +369,36 @@ public class ListHandlerTest extends AbstractTestBase {
                 .maxResults(MAX_RESULTS)
                 .build();
 
+        private static final String ANOTHER_SCHEMA_ARN =
+            "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema-2";
+        public final static String ANOTHER_SCHEMA_VERSION_ID = "5a0f1c2e-dc50-11ea-87d0-0242ac130003";
+
+        public static final ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_BY_REGISTRY =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(
+                    ResourceModel
+                        .builder()
+                        .schema(Schema.builder().registryName(REGISTRY_NAME).build())
+                        .build()
+                )
+                .build();
+
+        public static final ListSchemasRequest LIST_SCHEMAS_REQUEST =
+            ListSchemasRequest
+                .builder()
+                .registryId(RegistryId.builder().registryName(REGISTRY_NAME).build())
+                .maxResults(25)
+                .build();
+
+        public static final ListSchemasResponse LIST_SCHEMAS_RESPONSE =
+            ListSchemasResponse
+                .builder()
+                .schemas(
+                    SchemaListItem.builder().schemaArn(SCHEMA_ARN).build(),
+                    SchemaListItem.builder().schemaArn(ANOTHER_SCHEMA_ARN).build()
+                )
+                .build();
+
         public static final ResourceModel RESOURCE_MODEL_BY_NO_ID =
             ResourceModel
                 .builder()
@@ -255,6 +455,30 @@ public class ListHandlerTest extends AbstractTestBase {
                 .versionId(SCHEMA_VERSION_ID_2)
                 .build();
 
+        private static final String SCHEMA_DEFINITION = "{\"type\": \"record\", \"name\": \"r1\", \"fields\": []}";
+
+        public static final GetSchemaVersionRequest GET_SCHEMA_VERSION_REQUEST_1 =
+            GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_VERSION_ID_1).build();
+
+        public static final GetSchemaVersionRequest GET_SCHEMA_VERSION_REQUEST_2 =
+            GetSchemaVersionRequest.builder().schemaVersionId(SCHEMA_VERSION_ID_2).build();
+
+        public static final GetSchemaVersionResponse GET_SCHEMA_VERSION_RESPONSE_1 =
+            GetSchemaVersionResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID_1)
+                .schemaArn(SCHEMA_ARN)
+                .schemaDefinition(SCHEMA_DEFINITION)
+                .build();
+
+        private static final ResourceModel HYDRATED_RESOURCE_MODEL_1 =
+            ResourceModel
+                .builder()
+                .versionId(SCHEMA_VERSION_ID_1)
+                .schema(Schema.builder().schemaArn(SCHEMA_ARN).build())
+                .schemaDefinition(SCHEMA_DEFINITION)
+                .build();
+
         public static final List<ResourceModel> RESOURCE_MODEL_LIST =
             ImmutableList.of(LIST_RESOURCE_MODEL_1, LIST_RESOURCE_MODEL_2);
     }
@@ -0,0 +1,78 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class ModelHydratorTest {
+    @Mock
+    private Logger logger;
+
+    @Test
+    public void hydrate_WhenManyModelsAreListed_NeverRunsMoreReadsThanTheCap() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+
+        final List<ResourceModel> hydrated = new ModelHydrator(3, Duration.ofSeconds(30)).hydrate(
+            listed(20),
+            model -> {
+                mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return ResourceModel.builder().versionId(model.getVersionId()).schemaDefinition("definition").build();
+            },
+            logger);
+
+        assertThat(hydrated).hasSize(20).allMatch(model -> "definition".equals(model.getSchemaDefinition()));
+        assertThat(mostRunning.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void hydrate_WhenBudgetRunsOut_CancelsOutstandingReadsAndKeepsListedModels() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger();
+        final List<ResourceModel> listed = listed(5);
+
+        final List<ResourceModel> hydrated = new ModelHydrator(1, Duration.ofMillis(100)).hydrate(
+            listed,
+            model -> {
+                started.incrementAndGet();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return ResourceModel.builder().versionId(model.getVersionId()).schemaDefinition("definition").build();
+            },
+            logger);
+
+        assertThat(hydrated).isEqualTo(listed);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(started.get()).isEqualTo(1);
+    }
+
+    private static List<ResourceModel> listed(final int count) {
+        final List<ResourceModel> models = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            models.add(ResourceModel.builder().versionId("version-" + i).build());
+        }
+        return models;
+    }
+}
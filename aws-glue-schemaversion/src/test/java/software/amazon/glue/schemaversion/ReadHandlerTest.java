@@ -7,6 +7,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
@@ -14,6 +15,7 @@ import software.amazon.awssdk.services.glue.model.DataFormat;
 import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -24,6 +26,9 @@ import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.services.glue.model.SchemaVersionStatus.AVAILABLE;
 
@@ -44,6 +49,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new ReadHandler();
+        BaseHandlerStd.SCHEMA_DEFINITIONS.invalidateAll();
     }
 
     @Test
@@ -68,6 +74,46 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_WhenVersionIsCached_StillReadsItFromGlue() {
+        BaseHandlerStd.SCHEMA_DEFINITIONS.put(
+            TestData.getSchemaVersionResponseWithStatus(AVAILABLE).toBuilder().versionNumber(1L).build());
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion)
+        ).thenReturn(TestData.getSchemaVersionResponseWithStatus(AVAILABLE));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_HANDLER_REQUEST,
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.RESPONSE_RESOURCE_MODEL);
+        verify(glueClient, times(1)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenCachedVersionIsDeleted_ThrowsNotFoundAndDropsIt() {
+        BaseHandlerStd.SCHEMA_DEFINITIONS.put(
+            TestData.getSchemaVersionResponseWithStatus(AVAILABLE).toBuilder().versionNumber(1L).build());
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        assertThrows(
+            CfnNotFoundException.class,
+            () -> handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_HANDLER_REQUEST,
+                new CallbackContext(), proxyClient, logger
+            )
+        );
+        assertThat(BaseHandlerStd.SCHEMA_DEFINITIONS.get(TestData.SCHEMA_VERSION_ID)).isNull();
+    }
+
     @Test
     public void handleRequest_WhenServiceCallFails_ThrowsException() {
 
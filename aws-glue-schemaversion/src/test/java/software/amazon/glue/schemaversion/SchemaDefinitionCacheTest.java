@@ -0,0 +1,141 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaDefinitionCacheTest {
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+    private static final String SCHEMA_DEFINITION = "{\"type\": \"record\", \"name\": \"r1\", \"fields\": []}";
+
+    //Room for exactly two versions with the definition above.
+    private static final long MAX_WEIGHT_BYTES = 2 * (512 + 2L * SCHEMA_DEFINITION.length());
+
+    private SchemaDefinitionCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new SchemaDefinitionCache(MAX_WEIGHT_BYTES);
+    }
+
+    @Test
+    public void get_WhenVersionIsCached_ReturnsImmutableFieldsOnly() {
+        cache.put(version("v1").toBuilder().status(SchemaVersionStatus.AVAILABLE).build());
+
+        final GetSchemaVersionResponse cached = cache.get("v1");
+
+        assertThat(cached.schemaArn()).isEqualTo(SCHEMA_ARN);
+        assertThat(cached.schemaDefinition()).isEqualTo(SCHEMA_DEFINITION);
+        assertThat(cached.versionNumber()).isEqualTo(1L);
+        assertThat(cached.status()).isNull();
+        assertThat(cache.get("v2")).isNull();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void put_WhenWeightIsExceeded_EvictsLeastRecentlyUsed() {
+        cache.put(version("v1"));
+        cache.put(version("v2"));
+        cache.get("v1");
+        cache.put(version("v3"));
+
+        assertThat(cache.get("v1")).isNotNull();
+        assertThat(cache.get("v2")).isNull();
+        assertThat(cache.get("v3")).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.getWeightBytes()).isEqualTo(MAX_WEIGHT_BYTES);
+    }
+
+    @Test
+    public void put_WhenDefinitionIsLargerThanCache_DoesNotCacheIt() {
+        final StringBuilder largeDefinition = new StringBuilder();
+        while (2L * largeDefinition.length() <= MAX_WEIGHT_BYTES) {
+            largeDefinition.append(SCHEMA_DEFINITION);
+        }
+        cache.put(version("v1"));
+        cache.put(version("v2").toBuilder().schemaDefinition(largeDefinition.toString()).build());
+
+        assertThat(cache.get("v1")).isNotNull();
+        assertThat(cache.get("v2")).isNull();
+        assertThat(cache.getEvictions()).isEqualTo(0);
+    }
+
+    @Test
+    public void put_WhenWeightIsExceeded_MovesEvictedVersionToLowerTier() {
+        final CompressedDefinitionStore lowerTier = new CompressedDefinitionStore(1024 * 1024, null);
+        cache = new SchemaDefinitionCache(MAX_WEIGHT_BYTES, lowerTier);
+        cache.put(version("v1"));
+        cache.put(version("v2"));
+        cache.put(version("v3"));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(lowerTier.size()).isEqualTo(1);
+
+        assertThat(cache.get("v1").schemaDefinition()).isEqualTo(SCHEMA_DEFINITION);
+        assertThat(cache.getLowerTierHits()).isEqualTo(1);
+        //v1 is back on the heap and v2, now the least recently used, took its place below.
+        assertThat(lowerTier.size()).isEqualTo(1);
+        assertThat(lowerTier.take("v2")).isNotNull();
+    }
+
+    @Test
+    public void get_WhenVersionIsInvalidatedWhileTakenFromLowerTier_DoesNotStoreIt() throws Exception {
+        final CountDownLatch taken = new CountDownLatch(1);
+        final CountDownLatch invalidated = new CountDownLatch(1);
+        final CompressedDefinitionStore store = new CompressedDefinitionStore(1024 * 1024, null);
+        store.put(version("v1"));
+        //Holds the version between the take and the store in the heap until the invalidate is done.
+        final SchemaDefinitionTier lowerTier = new SchemaDefinitionTier() {
+            @Override
+            public GetSchemaVersionResponse take(final String schemaVersionId) {
+                final GetSchemaVersionResponse schemaVersion = store.take(schemaVersionId);
+                taken.countDown();
+                try {
+                    invalidated.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return schemaVersion;
+            }
+
+            @Override
+            public void put(final GetSchemaVersionResponse schemaVersion) {
+                store.put(schemaVersion);
+            }
+
+            @Override
+            public void invalidate(final String schemaVersionId) {
+                store.invalidate(schemaVersionId);
+            }
+        };
+        cache = new SchemaDefinitionCache(MAX_WEIGHT_BYTES, lowerTier);
+
+        final CompletableFuture<GetSchemaVersionResponse> get = CompletableFuture.supplyAsync(() -> cache.get("v1"));
+        assertThat(taken.await(10, TimeUnit.SECONDS)).isTrue();
+        cache.invalidate("v1");
+        invalidated.countDown();
+
+        assertThat(get.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(store.size()).isEqualTo(0);
+    }
+
+    private static GetSchemaVersionResponse version(final String schemaVersionId) {
+        return GetSchemaVersionResponse
+            .builder()
+            .schemaVersionId(schemaVersionId)
+            .schemaArn(SCHEMA_ARN)
+            .versionNumber(1L)
+            .schemaDefinition(SCHEMA_DEFINITION)
+            .build();
+    }
+}
@@ -0,0 +1,143 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaDefinitionDiskStoreTest {
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+    private static final String SCHEMA_DEFINITION = "{\"type\": \"record\", \"name\": \"r1\", \"fields\": []}";
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void take_WhenStoreIsReopened_ReturnsVersionsAndHonoursInvalidation() throws Exception {
+        final SchemaDefinitionDiskStore store = new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2);
+        store.put(version("v1"));
+        store.put(version("v2"));
+        store.invalidate("v2");
+
+        final SchemaDefinitionDiskStore reopened = new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2);
+        assertThat(reopened.size()).isEqualTo(1);
+
+        final GetSchemaVersionResponse cached = reopened.take("v1");
+        assertThat(cached.schemaArn()).isEqualTo(SCHEMA_ARN);
+        assertThat(cached.versionNumber()).isEqualTo(1L);
+        assertThat(cached.dataFormatAsString()).isEqualTo("AVRO");
+        assertThat(cached.schemaDefinition()).isEqualTo(SCHEMA_DEFINITION);
+        assertThat(reopened.take("v2")).isNull();
+        assertThat(reopened.take("v1")).isNull();
+        assertThat(reopened.getCorruptRecords()).isEqualTo(0);
+    }
+
+    @Test
+    public void open_WhenRecordIsCorrupt_KeepsRecordsBeforeIt() throws Exception {
+        final SchemaDefinitionDiskStore store = new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2);
+        store.put(version("v1"));
+        store.put(version("v2"));
+        store.put(version("v3"));
+
+        try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("segment-0.dat").toFile(), "rw")) {
+            final long secondRecordBody = recordBytes("v1") + 16 + 4;
+            segment.seek(secondRecordBody);
+            segment.write(segment.read() ^ 0xFF);
+        }
+
+        final SchemaDefinitionDiskStore reopened = new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2);
+
+        assertThat(reopened.take("v1")).isNotNull();
+        assertThat(reopened.take("v2")).isNull();
+        assertThat(reopened.take("v3")).isNull();
+        assertThat(reopened.getCorruptRecords()).isEqualTo(1);
+
+        reopened.put(version("v4"));
+        assertThat(new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2).take("v4")).isNotNull();
+    }
+
+    @Test
+    public void put_WhenSegmentsAreFull_DeletesOldestSegment() throws Exception {
+        //Room for one version per segment.
+        final int segmentBytes = recordBytes("v1") + 1;
+        final SchemaDefinitionDiskStore store = new SchemaDefinitionDiskStore(directory, segmentBytes, 2);
+        store.put(version("v1"));
+        store.put(version("v2"));
+        store.put(version("v3"));
+
+        assertThat(store.getEvictedSegments()).isEqualTo(1);
+        assertThat(Files.exists(directory.resolve("segment-0.dat"))).isFalse();
+        assertThat(store.take("v1")).isNull();
+        assertThat(store.take("v2")).isNotNull();
+        assertThat(store.take("v3")).isNotNull();
+    }
+
+    @Test
+    public void put_WhenSegmentFillsItsMapping_GrowsItUpToSegmentBytes() throws Exception {
+        final int segmentBytes = 4 * SchemaDefinitionDiskStore.DEFAULT_INITIAL_SEGMENT_BYTES;
+        final SchemaDefinitionDiskStore store = new SchemaDefinitionDiskStore(directory, segmentBytes, 2);
+        final Path segment = directory.resolve("segment-0.dat");
+        store.put(version("v0"));
+        assertThat(Files.size(segment)).isEqualTo(SchemaDefinitionDiskStore.DEFAULT_INITIAL_SEGMENT_BYTES);
+
+        final StringBuilder largeDefinition = new StringBuilder();
+        while (largeDefinition.length() < SchemaDefinitionDiskStore.DEFAULT_INITIAL_SEGMENT_BYTES / 2) {
+            largeDefinition.append(SCHEMA_DEFINITION);
+        }
+        for (int i = 1; i <= 3; i++) {
+            store.put(version("v" + i).toBuilder().schemaDefinition(largeDefinition.toString()).build());
+        }
+        assertThat(Files.size(segment)).isEqualTo(2L * SchemaDefinitionDiskStore.DEFAULT_INITIAL_SEGMENT_BYTES);
+
+        for (int i = 4; i <= 6; i++) {
+            store.put(version("v" + i).toBuilder().schemaDefinition(largeDefinition.toString()).build());
+        }
+        assertThat(Files.size(segment)).isEqualTo(segmentBytes);
+        assertThat(store.take("v0").schemaDefinition()).isEqualTo(SCHEMA_DEFINITION);
+        assertThat(store.take("v6").schemaDefinition()).isEqualTo(largeDefinition.toString());
+        assertThat(new SchemaDefinitionDiskStore(directory, segmentBytes, 2).size()).isEqualTo(5);
+    }
+
+    @Test
+    public void cacheGet_WhenHeapMisses_ReadsFromDiskStore() throws Exception {
+        final SchemaDefinitionDiskStore store = new SchemaDefinitionDiskStore(directory, SEGMENT_BYTES, 2);
+        //Room for one version on the heap, so putting a second one moves the first to disk.
+        final SchemaDefinitionCache cache = new SchemaDefinitionCache(512 + 2L * SCHEMA_DEFINITION.length(), store);
+        cache.put(version("v1"));
+        cache.put(version("v2"));
+        assertThat(store.size()).isEqualTo(1);
+
+        assertThat(cache.get("v1").schemaDefinition()).isEqualTo(SCHEMA_DEFINITION);
+        assertThat(cache.get("v1")).isNotNull();
+        assertThat(cache.getLowerTierHits()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        cache.invalidate("v2");
+        assertThat(cache.get("v2")).isNull();
+        assertThat(store.size()).isEqualTo(0);
+    }
+
+    private static int recordBytes(final String schemaVersionId) {
+        return 16 + schemaVersionId.getBytes(StandardCharsets.UTF_8).length
+            + SchemaVersionCodec.encode(version(schemaVersionId)).length;
+    }
+
+    private static GetSchemaVersionResponse version(final String schemaVersionId) {
+        return GetSchemaVersionResponse
+            .builder()
+            .schemaVersionId(schemaVersionId)
+            .schemaArn(SCHEMA_ARN)
+            .versionNumber(1L)
+            .dataFormat("AVRO")
+            .schemaDefinition(SCHEMA_DEFINITION)
+            .build();
+    }
+}
@@ -10,6 +10,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    //Shared by all handlers in this runtime so Create/Delete can invalidate what Read cached.
+    protected static final MetadataSnapshotCache METADATA_SNAPSHOTS = new MetadataSnapshotCache();
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -0,0 +1,26 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Identifies who a handler request reads Glue for, so that what was read for one caller is
+ * never handed to another caller, who Glue might not have authorized to read it.
+ *
+ * CloudFormation invokes the handlers of every resource in a stack operation with the same
+ * credentials, so the account and stack of the request are the narrowest caller identity a
+ * handler is given.
+ */
+final class CallerScope {
+    private CallerScope() {
+    }
+
+    /**
+     * @return the account id and stack id of the request, or null when the request doesn't carry both
+     */
+    static String of(final ResourceHandlerRequest<ResourceModel> request) {
+        if (request.getAwsAccountId() == null || request.getStackId() == null) {
+            return null;
+        }
+        return request.getAwsAccountId() + "/" + request.getStackId();
+    }
+}
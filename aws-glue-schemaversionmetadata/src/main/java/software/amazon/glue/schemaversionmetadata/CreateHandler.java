@@ -14,8 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -23,8 +21,6 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate(
@@ -34,7 +30,7 @@ public class CreateHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
 
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::createSchemaVersionMetadata)
+                    .makeServiceCall((awsRequest, client) -> createSchemaVersionMetadata(awsRequest, client, logger))
                     //Stabilization not required for this resource.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(createSchemaVersionMetadataResponse ->
@@ -55,7 +51,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private PutSchemaVersionMetadataResponse createSchemaVersionMetadata(
         final PutSchemaVersionMetadataRequest putSchemaVersionMetadataRequest,
-        ProxyClient<GlueClient> proxyClient) {
+        ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         final String identifier =
             getIdentifier(
@@ -72,6 +69,9 @@ public class CreateHandler extends BaseHandlerStd {
                 glueClient::putSchemaVersionMetadata);
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
+        } finally {
+            //Reads in this runtime must not be answered from a snapshot taken before this change.
+            METADATA_SNAPSHOTS.invalidate(putSchemaVersionMetadataRequest.schemaVersionId());
         }
 
         logger.log(
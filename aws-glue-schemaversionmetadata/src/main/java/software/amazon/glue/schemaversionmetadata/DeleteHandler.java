@@ -15,8 +15,6 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
-
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -24,14 +22,12 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
                 proxy.initiate("AWS-Glue-SchemaVersionMetadata::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::fromResourceModel)
-                    .makeServiceCall(this::removeSchemaVersionMetadata)
+                    .makeServiceCall((awsRequest, client) -> removeSchemaVersionMetadata(awsRequest, client, logger))
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
                     .done(
                         awsResponse ->
@@ -42,7 +38,8 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private RemoveSchemaVersionMetadataResponse removeSchemaVersionMetadata(
         final RemoveSchemaVersionMetadataRequest removeSchemaVersionMetadataRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final Logger logger) {
 
         final GlueClient glueClient = proxyClient.client();
         final String identifier =
@@ -60,6 +57,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
+        } finally {
+            //Reads in this runtime must not be answered from a snapshot taken before this change.
+            METADATA_SNAPSHOTS.invalidate(removeSchemaVersionMetadataRequest.schemaVersionId());
         }
 
         logger.log(
@@ -3,6 +3,7 @@ package software.amazon.glue.schemaversionmetadata;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -83,13 +84,24 @@ public class ListHandler extends BaseHandlerStd {
 
     private QuerySchemaVersionMetadataRequest translateToListRequest(
         final ResourceHandlerRequest<ResourceModel> request) {
-        final String schemaVersionId = request.getDesiredResourceState().getSchemaVersionId();
+        final ResourceModel model = request.getDesiredResourceState();
 
-        return QuerySchemaVersionMetadataRequest
+        final QuerySchemaVersionMetadataRequest.Builder builder = QuerySchemaVersionMetadataRequest
             .builder()
             .nextToken(request.getNextToken())
-            .schemaVersionId(schemaVersionId)
-            .maxResults(50)
-            .build();
+            .schemaVersionId(model.getSchemaVersionId())
+            .maxResults(50);
+
+        //Let the service filter by key and/or value instead of returning every entry of the version.
+        if (model.getKey() != null || model.getValue() != null) {
+            builder.metadataList(
+                MetadataKeyValuePair
+                    .builder()
+                    .metadataKey(model.getKey())
+                    .metadataValue(model.getValue())
+                    .build()
+            );
+        }
+        return builder.build();
     }
 }
@@ -0,0 +1,154 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Short lived, per caller and schema version snapshot of all metadata key/values.
+ * Reads of many metadata resources on the same schema version share one
+ * unfiltered query instead of issuing one filtered query each.
+ * Snapshots are only shared between callers with the same {@link CallerScope}, so a
+ * caller is never answered from data Glue didn't authorize it to read.
+ * Snapshots are dropped once the time to live passes, or when Create/Delete
+ * changes metadata on that schema version in the same runtime.
+ */
+final class MetadataSnapshotCache {
+    static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final ConcurrentHashMap<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+
+    MetadataSnapshotCache() {
+        this(DEFAULT_TIME_TO_LIVE, System::nanoTime);
+    }
+
+    MetadataSnapshotCache(final Duration timeToLive, final LongSupplier nanoClock) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Returns the metadata of the schema version as key to values, loading it when
+     * there is no fresh snapshot for the scope. Concurrent callers for the same scope and
+     * schema version wait for a single load, which runs outside of any lock of the map.
+     * Exceptions thrown by the loader propagate to every waiting caller and nothing is cached.
+     * Without a scope nothing is shared and every call loads.
+     */
+    Map<String, Set<String>> get(
+        final String scope,
+        final String schemaVersionId,
+        final Function<String, Map<String, Set<String>>> loader) {
+
+        if (scope == null) {
+            return Collections.unmodifiableMap(loader.apply(schemaVersionId));
+        }
+
+        final Key key = new Key(scope, schemaVersionId);
+        while (true) {
+            final Snapshot current = snapshots.get(key);
+            final long now = nanoClock.getAsLong();
+            if (current != null && (!current.metadata.isDone() || now - current.loadedAtNanos < timeToLiveNanos)) {
+                return join(current.metadata);
+            }
+
+            //Stamped when the load starts, so the snapshot never outlives data older than the time to live.
+            final Snapshot loading = new Snapshot(now);
+            final boolean claimed = current == null
+                ? snapshots.putIfAbsent(key, loading) == null
+                : snapshots.replace(key, current, loading);
+            if (!claimed) {
+                continue;
+            }
+
+            try {
+                final Map<String, Set<String>> metadata = Collections.unmodifiableMap(loader.apply(schemaVersionId));
+                loading.metadata.complete(metadata);
+                return metadata;
+            } catch (final RuntimeException | Error e) {
+                snapshots.remove(key, loading);
+                loading.metadata.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    boolean contains(
+        final String scope,
+        final String schemaVersionId,
+        final String key,
+        final String value,
+        final Function<String, Map<String, Set<String>>> loader) {
+
+        final Set<String> values = get(scope, schemaVersionId, loader).get(key);
+        return values != null && values.contains(value);
+    }
+
+    /**
+     * Drops the snapshots of the schema version of every scope.
+     */
+    void invalidate(final String schemaVersionId) {
+        if (schemaVersionId != null) {
+            snapshots.keySet().removeIf(key -> key.schemaVersionId.equals(schemaVersionId));
+        }
+    }
+
+    void invalidateAll() {
+        snapshots.clear();
+    }
+
+    private static Map<String, Set<String>> join(final CompletableFuture<Map<String, Set<String>>> metadata) {
+        try {
+            return metadata.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Snapshot {
+        private final CompletableFuture<Map<String, Set<String>>> metadata = new CompletableFuture<>();
+        private final long loadedAtNanos;
+
+        private Snapshot(final long loadedAtNanos) {
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    private static final class Key {
+        private final String scope;
+        private final String schemaVersionId;
+
+        private Key(final String scope, final String schemaVersionId) {
+            this.scope = scope;
+            this.schemaVersionId = schemaVersionId;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return scope.equals(key.scope) && schemaVersionId.equals(key.schemaVersionId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, schemaVersionId);
+        }
+    }
+}
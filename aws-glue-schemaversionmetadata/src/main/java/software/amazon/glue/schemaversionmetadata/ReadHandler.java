@@ -15,13 +15,17 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
     private static final int ONLY_ELEMENT = 0;
-    private Logger logger;
+    private static final int MAX_RESULTS = 50;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,8 +34,6 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate(
             "AWS-Glue-SchemaVersionMetadata::Read",
             proxyClient,
@@ -39,17 +41,19 @@ public class ReadHandler extends BaseHandlerStd {
             callbackContext)
 
             .translateToServiceRequest(this::fromResourceModel)
-            .makeServiceCall(this::querySchemaVersionMetadata)
+            .makeServiceCall((awsRequest, client) ->
+                querySchemaVersionMetadata(awsRequest, client, CallerScope.of(request), logger))
             .done(querySchemaVersionMetadataResponse ->
                 ProgressEvent.defaultSuccessHandler(toResourceModel(querySchemaVersionMetadataResponse)));
     }
 
     private QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(
         final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest,
-        ProxyClient<GlueClient> proxyClient) {
-        QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
+        ProxyClient<GlueClient> proxyClient,
+        final String callerScope,
+        final Logger logger) {
+        Map<String, Set<String>> metadata = null;
 
-        final GlueClient glueClient = proxyClient.client();
         final MetadataKeyValuePair metadataKeyValuePair =
             querySchemaVersionMetadataRequest.metadataList().get(ONLY_ELEMENT);
 
@@ -59,18 +63,14 @@ public class ReadHandler extends BaseHandlerStd {
         final String identifier = getIdentifier(schemaVersionId, metadataKey, metadataValue);
 
         try {
-            querySchemaVersionMetadataResponse =
-                proxyClient.injectCredentialsAndInvokeV2(
-                    querySchemaVersionMetadataRequest,
-                    glueClient::querySchemaVersionMetadata
-                );
-
+            metadata = METADATA_SNAPSHOTS.get(
+                callerScope, schemaVersionId, id -> loadMetadataSnapshot(id, proxyClient));
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
 
         validateMetadataPresence(
-            querySchemaVersionMetadataResponse,
+            metadata,
             metadataKey,
             metadataValue,
             identifier
@@ -81,7 +81,63 @@ public class ReadHandler extends BaseHandlerStd {
                 ResourceModel.TYPE_NAME,
                 schemaVersionId
             ));
-        return querySchemaVersionMetadataResponse;
+        return toQuerySchemaVersionMetadataResponse(schemaVersionId, metadataKey, metadataValue);
+    }
+
+    /**
+     * Reads every metadata key/value of the schema version with an unfiltered, paginated query.
+     * A key can carry several values, so each key maps to all of its values.
+     */
+    private Map<String, Set<String>> loadMetadataSnapshot(
+        final String schemaVersionId,
+        final ProxyClient<GlueClient> proxyClient) {
+        final GlueClient glueClient = proxyClient.client();
+        final Map<String, Set<String>> metadata = new HashMap<>();
+
+        String nextToken = null;
+        do {
+            final QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse =
+                proxyClient.injectCredentialsAndInvokeV2(
+                    QuerySchemaVersionMetadataRequest
+                        .builder()
+                        .schemaVersionId(schemaVersionId)
+                        .maxResults(MAX_RESULTS)
+                        .nextToken(nextToken)
+                        .build(),
+                    glueClient::querySchemaVersionMetadata
+                );
+
+            if (querySchemaVersionMetadataResponse.hasMetadataInfoMap()) {
+                querySchemaVersionMetadataResponse.metadataInfoMap().forEach((key, metadataInfo) -> {
+                    final Set<String> values = metadata.computeIfAbsent(key, k -> new HashSet<>());
+                    values.add(metadataInfo.metadataValue());
+                    if (metadataInfo.hasOtherMetadataValueList()) {
+                        metadataInfo.otherMetadataValueList()
+                            .forEach(otherValue -> values.add(otherValue.metadataValue()));
+                    }
+                });
+            }
+            nextToken = querySchemaVersionMetadataResponse.nextToken();
+        } while (nextToken != null);
+
+        return metadata;
+    }
+
+    private QuerySchemaVersionMetadataResponse toQuerySchemaVersionMetadataResponse(
+        final String schemaVersionId,
+        final String metadataKey,
+        final String metadataValue) {
+        //Only the requested key/value is surfaced, matching what the filtered query would return.
+        return QuerySchemaVersionMetadataResponse
+            .builder()
+            .schemaVersionId(schemaVersionId)
+            .metadataInfoMap(
+                Collections.singletonMap(
+                    metadataKey,
+                    MetadataInfo.builder().metadataValue(metadataValue).build()
+                )
+            )
+            .build();
     }
 
     private ResourceModel toResourceModel(
@@ -102,14 +158,13 @@ public class ReadHandler extends BaseHandlerStd {
     }
 
     private void validateMetadataPresence(
-        final QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse,
+        final Map<String, Set<String>> metadata,
         final String key,
         final String value,
         final String identifier
     ) {
-        if (!querySchemaVersionMetadataResponse.hasMetadataInfoMap()
-            || !querySchemaVersionMetadataResponse.metadataInfoMap().containsKey(key)
-            || !value.equals(querySchemaVersionMetadataResponse.metadataInfoMap().get(key).metadataValue())) {
+        if (!metadata.containsKey(key)
+            || !metadata.get(key).contains(value)) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier);
         }
     }
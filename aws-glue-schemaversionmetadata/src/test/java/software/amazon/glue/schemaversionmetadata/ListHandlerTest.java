@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.InternalServiceException;
 import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -109,6 +110,28 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Error occurred during operation ");
     }
 
+    @Test
+    public void handleRequest_WhenKeyIsGiven_FiltersQueryByKey() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.KEY_FILTERED_QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.KEY_FILTERED_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy, TestData.KEY_FILTERED_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsExactly(
+            ResourceModel
+                .builder()
+                .schemaVersionId(TestData.SCHEMA_VERSION_ID)
+                .key(TestData.METADATA_KEY_1)
+                .value(TestData.METADATA_VALUE_1)
+                .build());
+        assertThat(response.getNextToken()).isNull();
+    }
+
     private static class TestData {
         public final static String SCHEMA_VERSION_ID = "yurt9301-dc50-11ea-87d0-8iofb18nkrp8";
         private static final String METADATA_KEY_1 = "META_KEY_1";
@@ -152,11 +175,50 @@ public class ListHandlerTest extends AbstractTestBase {
                 .build();
 
         private static final ResourceModel RESOURCE_MODEL =
+            ResourceModel
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .build();
+
+        private static final ResourceModel KEY_FILTERED_RESOURCE_MODEL =
             ResourceModel
                 .builder()
                 .schemaVersionId(SCHEMA_VERSION_ID)
                 .key(METADATA_KEY_1)
-                .value(METADATA_VALUE_1)
+                .build();
+
+        public static final ResourceHandlerRequest<ResourceModel>
+            KEY_FILTERED_RESOURCE_HANDLER_REQUEST =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(KEY_FILTERED_RESOURCE_MODEL)
+                .build();
+
+        public static final QuerySchemaVersionMetadataRequest KEY_FILTERED_QUERY_SCHEMA_VERSION_METADATA_REQUEST =
+            QuerySchemaVersionMetadataRequest
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .maxResults(MAX_RESULTS)
+                .metadataList(
+                    MetadataKeyValuePair
+                        .builder()
+                        .metadataKey(METADATA_KEY_1)
+                        .build()
+                )
+                .build();
+
+        public static final QuerySchemaVersionMetadataResponse KEY_FILTERED_QUERY_SCHEMA_VERSION_METADATA_RESPONSE =
+            QuerySchemaVersionMetadataResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .metadataInfoMap(
+                    ImmutableMap.of(
+                        METADATA_KEY_1,
+                        MetadataInfo
+                            .builder()
+                            .metadataValue(METADATA_VALUE_1)
+                            .build()
+                    )
+                )
                 .build();
 
         public static final ResourceHandlerRequest<ResourceModel>
@@ -0,0 +1,129 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MetadataSnapshotCacheTest {
+    private static final String SCHEMA_VERSION_ID = "yurt9301-dc50-11ea-87d0-8iofb18nkrp8";
+    private static final String SCOPE = "123456789012/unit-test-stack";
+    private static final String OTHER_SCOPE = "123456789012/other-stack";
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MetadataSnapshotCache cache;
+
+    private final Function<String, Map<String, Set<String>>> loader = schemaVersionId -> {
+        loads.incrementAndGet();
+        return ImmutableMap.of("META_KEY", ImmutableSet.of("META_VALUE"));
+    };
+
+    @BeforeEach
+    public void setup() {
+        cache = new MetadataSnapshotCache(TIME_TO_LIVE, nanoClock::get);
+    }
+
+    @Test
+    public void contains_WhenSnapshotIsFresh_LoadsOnce() {
+        assertThat(cache.contains(SCOPE, SCHEMA_VERSION_ID, "META_KEY", "META_VALUE", loader)).isTrue();
+        assertThat(cache.contains(SCOPE, SCHEMA_VERSION_ID, "META_KEY", "OTHER_VALUE", loader)).isFalse();
+        assertThat(cache.contains(SCOPE, SCHEMA_VERSION_ID, "OTHER_KEY", "META_VALUE", loader)).isFalse();
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WhenTimeToLiveHasPassed_LoadsAgain() {
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        nanoClock.addAndGet(TIME_TO_LIVE.toNanos() - 1);
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        assertThat(loads.get()).isEqualTo(1);
+
+        nanoClock.addAndGet(1);
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_WhenInvalidated_LoadsAgain() {
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        cache.invalidate(SCHEMA_VERSION_ID);
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_WhenLoaderFails_DoesNotCacheAnything() {
+        assertThrows(IllegalStateException.class, () -> cache.get(SCOPE, SCHEMA_VERSION_ID, schemaVersionId -> {
+            throw new IllegalStateException();
+        }));
+
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WhenScopesDiffer_LoadsForEach() {
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+        cache.get(OTHER_SCOPE, SCHEMA_VERSION_ID, loader);
+        cache.get(SCOPE, SCHEMA_VERSION_ID, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_WithoutScope_AlwaysLoads() {
+        cache.get(null, SCHEMA_VERSION_ID, loader);
+        cache.get(null, SCHEMA_VERSION_ID, loader);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_WhileAnotherVersionIsLoading_DoesNotWaitForIt() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Map<String, Set<String>>> slowLoad = executorService.submit(() ->
+                cache.get(SCOPE, "slow-version", schemaVersionId -> {
+                    loading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return loader.apply(schemaVersionId);
+                }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(cache.get(SCOPE, SCHEMA_VERSION_ID, loader)).containsKey("META_KEY");
+            assertThat(slowLoad.isDone()).isFalse();
+
+            release.countDown();
+            assertThat(slowLoad.get(5, TimeUnit.SECONDS)).containsKey("META_KEY");
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+}
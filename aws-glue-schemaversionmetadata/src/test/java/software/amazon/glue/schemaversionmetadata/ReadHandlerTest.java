@@ -2,9 +2,13 @@ package software.amazon.glue.schemaversionmetadata;
 
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
 import software.amazon.awssdk.services.glue.model.MetadataInfo;
 import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.OtherMetadataValueListItem;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataResponse;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -22,7 +26,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +51,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
         handler = new ReadHandler();
+        BaseHandlerStd.METADATA_SNAPSHOTS.invalidateAll();
     }
 
     @Test
@@ -157,21 +165,151 @@ public class ReadHandlerTest extends AbstractTestBase {
         );
     }
 
+    @Test
+    public void handleRequest_WhenReadingSeveralMetadataOfOneVersion_QueriesMetadataOnce() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.MULTIPLE_KEYS_QUERY_SCHEMA_VERSION_METADATA_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> otherResponse = handler.handleRequest(
+            proxy, TestData.OTHER_RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.RESOURCE_MODEL);
+        assertThat(otherResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(otherResponse.getResourceModel()).isEqualTo(TestData.OTHER_RESOURCE_MODEL);
+    }
+
+    @Test
+    public void handleRequest_WhenRequestIsForOtherStack_QueriesMetadataAgain() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.MULTIPLE_KEYS_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> otherStackResponse = handler.handleRequest(
+            proxy,
+            TestData.OTHER_RESOURCE_HANDLER_REQUEST.toBuilder().stackId(TestData.OTHER_STACK_ID).build(),
+            new CallbackContext(),
+            proxyClient,
+            logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(otherStackResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, times(2)).querySchemaVersionMetadata(any(QuerySchemaVersionMetadataRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenRequestHasNoStack_QueriesMetadataEveryTime() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.MULTIPLE_KEYS_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST.toBuilder().stackId(null).build(),
+            new CallbackContext(),
+            proxyClient,
+            logger);
+        handler.handleRequest(
+            proxy,
+            TestData.OTHER_RESOURCE_HANDLER_REQUEST.toBuilder().stackId(null).build(),
+            new CallbackContext(),
+            proxyClient,
+            logger);
+
+        verify(glueClient, times(2)).querySchemaVersionMetadata(any(QuerySchemaVersionMetadataRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenMetadataIsOnLaterPage_ReturnsSuccess() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.FIRST_PAGE_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.NEXT_PAGE_QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.RESOURCE_MODEL);
+    }
+
+    @Test
+    public void handleRequest_WhenValueIsOneOfSeveralForKey_ReturnsSuccess() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.MULTIPLE_VALUES_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.RESOURCE_MODEL);
+    }
+
+    @Test
+    public void handleRequest_WhenMetadataIsCreatedAfterRead_QueriesMetadataAgain() {
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.QUERY_SCHEMA_VERSION_METADATA_REQUEST, glueClient::querySchemaVersionMetadata))
+            .thenReturn(TestData.EMPTY_QUERY_SCHEMA_VERSION_METADATA_RESPONSE)
+            .thenReturn(TestData.QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.PUT_SCHEMA_VERSION_METADATA_REQUEST, glueClient::putSchemaVersionMetadata))
+            .thenReturn(PutSchemaVersionMetadataResponse.builder().build());
+
+        assertThrows(
+            CfnNotFoundException.class,
+            () -> handler.handleRequest(
+                proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger)
+        );
+
+        new CreateHandler().handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.RESOURCE_MODEL);
+    }
+
     private static class TestData {
         public final static String SCHEMA_VERSION_ID = "yurt9301-dc50-11ea-87d0-8iofb18nkrp8";
         private static final String METADATA_VALUE = "META_VALUE";
         private static final String METADATA_KEY = "META_KEY";
+        private static final String OTHER_METADATA_KEY = "OTHER_META_KEY";
+        private static final String OTHER_METADATA_VALUE = "OTHER_META_VALUE";
+        private static final String NEXT_TOKEN = "next-page";
+        private static final String AWS_ACCOUNT_ID = "123456789012";
+        private static final String STACK_ID =
+            "arn:aws:cloudformation:us-east-1:123456789012:stack/unit-test-stack/1a2b3c4d-dc50-11ea-87d0-0242ac130003";
+        private static final String OTHER_STACK_ID =
+            "arn:aws:cloudformation:us-east-1:123456789012:stack/other-stack/5e6f7a8b-dc50-11ea-87d0-0242ac130003";
 
-        private static final MetadataKeyValuePair METADATA_KEY_VALUE_PAIR =
-            MetadataKeyValuePair.builder()
-                .metadataKey(METADATA_KEY)
-                .metadataValue(METADATA_VALUE)
-                .build();
         public static final QuerySchemaVersionMetadataRequest QUERY_SCHEMA_VERSION_METADATA_REQUEST =
             QuerySchemaVersionMetadataRequest
                 .builder()
                 .schemaVersionId(SCHEMA_VERSION_ID)
-                .metadataList(METADATA_KEY_VALUE_PAIR)
+                .maxResults(50)
+                .build();
+
+        public static final QuerySchemaVersionMetadataRequest NEXT_PAGE_QUERY_SCHEMA_VERSION_METADATA_REQUEST =
+            QUERY_SCHEMA_VERSION_METADATA_REQUEST
+                .toBuilder()
+                .nextToken(NEXT_TOKEN)
                 .build();
 
         public static final QuerySchemaVersionMetadataResponse QUERY_SCHEMA_VERSION_METADATA_RESPONSE =
@@ -189,6 +327,63 @@ public class ReadHandlerTest extends AbstractTestBase {
                 )
                 .build();
 
+        public static final QuerySchemaVersionMetadataResponse MULTIPLE_KEYS_QUERY_SCHEMA_VERSION_METADATA_RESPONSE =
+            QuerySchemaVersionMetadataResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .metadataInfoMap(
+                    ImmutableMap.of(
+                        METADATA_KEY,
+                        MetadataInfo.builder().metadataValue(METADATA_VALUE).build(),
+                        OTHER_METADATA_KEY,
+                        MetadataInfo.builder().metadataValue(OTHER_METADATA_VALUE).build()
+                    )
+                )
+                .build();
+
+        public static final QuerySchemaVersionMetadataResponse FIRST_PAGE_QUERY_SCHEMA_VERSION_METADATA_RESPONSE =
+            QuerySchemaVersionMetadataResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .metadataInfoMap(
+                    ImmutableMap.of(
+                        OTHER_METADATA_KEY,
+                        MetadataInfo.builder().metadataValue(OTHER_METADATA_VALUE).build()
+                    )
+                )
+                .nextToken(NEXT_TOKEN)
+                .build();
+
+        public static final QuerySchemaVersionMetadataResponse MULTIPLE_VALUES_QUERY_SCHEMA_VERSION_METADATA_RESPONSE =
+            QuerySchemaVersionMetadataResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .metadataInfoMap(
+                    ImmutableMap.of(
+                        METADATA_KEY,
+                        MetadataInfo
+                            .builder()
+                            .metadataValue("Some other value")
+                            .otherMetadataValueList(
+                                OtherMetadataValueListItem.builder().metadataValue(METADATA_VALUE).build()
+                            )
+                            .build()
+                    )
+                )
+                .build();
+
+        public static final PutSchemaVersionMetadataRequest PUT_SCHEMA_VERSION_METADATA_REQUEST =
+            PutSchemaVersionMetadataRequest
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .metadataKeyValue(
+                    MetadataKeyValuePair.builder()
+                        .metadataKey(METADATA_KEY)
+                        .metadataValue(METADATA_VALUE)
+                        .build()
+                )
+                .build();
+
         private static final ResourceModel RESOURCE_MODEL =
             ResourceModel
                 .builder()
@@ -201,6 +396,24 @@ public class ReadHandlerTest extends AbstractTestBase {
             RESOURCE_HANDLER_REQUEST =
             ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(RESOURCE_MODEL)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .stackId(STACK_ID)
+                .build();
+
+        private static final ResourceModel OTHER_RESOURCE_MODEL =
+            ResourceModel
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .key(OTHER_METADATA_KEY)
+                .value(OTHER_METADATA_VALUE)
+                .build();
+
+        public static final ResourceHandlerRequest<ResourceModel>
+            OTHER_RESOURCE_HANDLER_REQUEST =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(OTHER_RESOURCE_MODEL)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .stackId(STACK_ID)
                 .build();
 
         private static final QuerySchemaVersionMetadataResponse